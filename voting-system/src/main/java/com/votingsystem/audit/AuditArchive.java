@@ -0,0 +1,176 @@
+package com.votingsystem.audit;
+
+import com.votingsystem.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier of the audit log: one compressed, block-indexed segment file per
+ * archived month, queried by timestamp range
+ */
+@Component
+public class AuditArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchive.class);
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    @Value("${voting.audit.archive.directory:data/audit-archive}")
+    private String directory;
+
+    @Value("${voting.audit.archive.block-size-bytes:65536}")
+    private int blockSize;
+
+    private Path archiveDir;
+
+    // Segment name (yyyy-MM) to its loaded index
+    private final Map<String, AuditArchiveSegment> segments = new ConcurrentSkipListMap<>();
+
+    // Metrics
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong rowsReturned = new AtomicLong();
+    private final AtomicLong totalQueryNanos = new AtomicLong();
+    private final AtomicLong lastQueryNanos = new AtomicLong();
+    private final AtomicLong maxQueryNanos = new AtomicLong();
+
+    @PostConstruct
+    public void open() throws IOException {
+        archiveDir = Path.of(directory);
+        Files.createDirectories(archiveDir);
+
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    // Left over from an archival that did not finish; its partition was not dropped
+                    Files.deleteIfExists(file);
+                } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        segments.put(segmentKey(name), AuditArchiveSegment.open(file));
+                    } catch (IOException e) {
+                        logger.error("Skipping unreadable audit archive segment {}: {}", file, e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rows held by the named segment, or -1 if there is none
+     */
+    public long segmentRows(String name) {
+        AuditArchiveSegment segment = segments.get(name);
+        return segment != null ? segment.getRows() : -1L;
+    }
+
+    /**
+     * Write a segment from the rows the producer feeds into the sink, replacing any
+     * segment of the same name. The file only becomes visible once complete and synced.
+     * Returns the number of rows written.
+     */
+    public long write(String name, Consumer<Consumer<AuditLog>> producer) throws IOException {
+        Path target = archiveDir.resolve(SEGMENT_PREFIX + name + SEGMENT_SUFFIX);
+        Path temp = archiveDir.resolve(SEGMENT_PREFIX + name + SEGMENT_SUFFIX + TEMP_SUFFIX);
+
+        long rows;
+        try (AuditArchiveSegment.Writer writer = new AuditArchiveSegment.Writer(temp, blockSize)) {
+            producer.accept(log -> {
+                try {
+                    writer.append(log);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+            rows = writer.getRows();
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        segments.put(name, AuditArchiveSegment.open(target));
+        return rows;
+    }
+
+    /**
+     * Archived entries with start <= timestamp <= end, newest first
+     */
+    public List<AuditLog> query(LocalDateTime start, LocalDateTime end) {
+        long began = System.nanoTime();
+        List<AuditLog> results = new ArrayList<>();
+
+        for (AuditArchiveSegment segment : segments.values()) {
+            if (!segment.overlaps(start, end)) {
+                continue;
+            }
+            try {
+                segment.scan(start, end, results::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading audit archive " + segment.getPath(), e);
+            }
+        }
+        results.sort(Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId).reversed());
+
+        long elapsed = System.nanoTime() - began;
+        queries.incrementAndGet();
+        rowsReturned.addAndGet(results.size());
+        totalQueryNanos.addAndGet(elapsed);
+        lastQueryNanos.set(elapsed);
+        maxQueryNanos.accumulateAndGet(elapsed, Math::max);
+        return results;
+    }
+
+    public Map<String, Object> getMetrics() {
+        long rows = 0;
+        long rawBytes = 0;
+        long fileBytes = 0;
+        int blocks = 0;
+        for (AuditArchiveSegment segment : segments.values()) {
+            rows += segment.getRows();
+            rawBytes += segment.getRawBytes();
+            fileBytes += segment.getFileBytes();
+            blocks += segment.getBlockCount();
+        }
+
+        long queryCount = queries.get();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("directory", directory);
+        metrics.put("segments", new ArrayList<>(segments.keySet()));
+        metrics.put("blocks", blocks);
+        metrics.put("archivedRows", rows);
+        metrics.put("uncompressedBytes", rawBytes);
+        metrics.put("archiveBytes", fileBytes);
+        metrics.put("compressionRatio", fileBytes > 0 ? (double) rawBytes / fileBytes : 0.0);
+        metrics.put("queries", queryCount);
+        metrics.put("rowsReturned", rowsReturned.get());
+        metrics.put("lastQueryMs", lastQueryNanos.get() / 1_000_000.0);
+        metrics.put("maxQueryMs", maxQueryNanos.get() / 1_000_000.0);
+        metrics.put("averageQueryMs", queryCount > 0 ? totalQueryNanos.get() / 1_000_000.0 / queryCount : 0.0);
+        return metrics;
+    }
+
+    private static String segmentKey(String fileName) {
+        return fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+    }
+}
@@ -0,0 +1,351 @@
+package com.votingsystem.audit;
+
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An immutable, deflate-compressed archive of audit log entries.
+ * <p>
+ * Layout: int magic, int version, then compressed blocks of rows, then the block
+ * index (offset, lengths, row count and timestamp range per block), then a fixed
+ * footer. A range query only inflates the blocks whose timestamp range overlaps it.
+ */
+class AuditArchiveSegment {
+
+    static final int MAGIC = 0x41554C47; // "AULG"
+    static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 8;
+    static final int FOOTER_BYTES = 48;
+    static final int INDEX_ENTRY_BYTES = 36;
+
+    record Block(long offset, int compressedLength, int rawLength, int rows,
+                 long minTimestamp, long maxTimestamp) {
+    }
+
+    private final Path path;
+    private final List<Block> blocks;
+    private final long rows;
+    private final long rawBytes;
+    private final long fileBytes;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+
+    private AuditArchiveSegment(Path path, List<Block> blocks, long rows, long rawBytes, long fileBytes,
+                                long minTimestamp, long maxTimestamp) {
+        this.path = path;
+        this.blocks = blocks;
+        this.rows = rows;
+        this.rawBytes = rawBytes;
+        this.fileBytes = fileBytes;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+    }
+
+    /**
+     * Read the footer and block index of a finished segment file
+     */
+    static AuditArchiveSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FILE_HEADER_BYTES + FOOTER_BYTES) {
+                throw new IOException("Not an audit archive segment: " + path);
+            }
+
+            ByteBuffer footer = readFully(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            int blockCount = footer.getInt();
+            long rows = footer.getLong();
+            long rawBytes = footer.getLong();
+            long minTimestamp = footer.getLong();
+            long maxTimestamp = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("Incomplete audit archive segment: " + path);
+            }
+
+            ByteBuffer index = readFully(channel, indexOffset, blockCount * INDEX_ENTRY_BYTES);
+            List<Block> blocks = new ArrayList<>(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                blocks.add(new Block(index.getLong(), index.getInt(), index.getInt(), index.getInt(),
+                        index.getLong(), index.getLong()));
+            }
+            return new AuditArchiveSegment(path, List.copyOf(blocks), rows, rawBytes, size, minTimestamp, maxTimestamp);
+        }
+    }
+
+    boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return rows > 0 && toMillis(from) <= maxTimestamp && toMillis(to) >= minTimestamp;
+    }
+
+    /**
+     * Emit every archived entry with from <= timestamp <= to
+     */
+    void scan(LocalDateTime from, LocalDateTime to, Consumer<AuditLog> consumer) throws IOException {
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        Inflater inflater = new Inflater();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (Block block : blocks) {
+                if (block.maxTimestamp() < fromMillis || block.minTimestamp() > toMillis) {
+                    continue;
+                }
+                ByteBuffer compressed = readFully(channel, block.offset(), block.compressedLength());
+                byte[] raw = new byte[block.rawLength()];
+                inflater.reset();
+                inflater.setInput(compressed.array());
+                try {
+                    int inflated = 0;
+                    while (inflated < raw.length && !inflater.finished()) {
+                        int length = inflater.inflate(raw, inflated, raw.length - inflated);
+                        if (length == 0 && inflater.needsInput()) {
+                            break;
+                        }
+                        inflated += length;
+                    }
+                    if (inflated != raw.length) {
+                        throw new IOException("Truncated block at offset " + block.offset() + " in " + path);
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException("Corrupt block at offset " + block.offset() + " in " + path, e);
+                }
+
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+                for (int i = 0; i < block.rows(); i++) {
+                    AuditLog log = readRow(in);
+                    long timestamp = toMillis(log.getTimestamp());
+                    if (timestamp >= fromMillis && timestamp <= toMillis) {
+                        consumer.accept(log);
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    long getRawBytes() {
+        return rawBytes;
+    }
+
+    long getFileBytes() {
+        return fileBytes;
+    }
+
+    int getBlockCount() {
+        return blocks.size();
+    }
+
+    /**
+     * Streams rows into compressed blocks. Rows are expected in timestamp order so
+     * block timestamp ranges stay narrow, but any order is read back correctly.
+     */
+    static class Writer implements Closeable {
+        private final Path path;
+        private final int blockSize;
+        private final FileOutputStream file;
+        private final DataOutputStream out;
+        private final Deflater deflater = new Deflater();
+        private final List<Block> blocks = new ArrayList<>();
+
+        private final ByteArrayOutputStream blockBuffer = new ByteArrayOutputStream();
+        private final DataOutputStream blockOut = new DataOutputStream(blockBuffer);
+        private int blockRows;
+        private long blockMin = Long.MAX_VALUE;
+        private long blockMax = Long.MIN_VALUE;
+
+        private long position;
+        private long rows;
+        private long rawBytes;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+
+        Writer(Path path, int blockSize) throws IOException {
+            this.path = path;
+            this.blockSize = blockSize;
+            this.file = new FileOutputStream(path.toFile());
+            this.out = new DataOutputStream(new BufferedOutputStream(file));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            position = FILE_HEADER_BYTES;
+        }
+
+        void append(AuditLog log) throws IOException {
+            long timestamp = toMillis(log.getTimestamp());
+            writeRow(blockOut, log);
+            blockRows++;
+            blockMin = Math.min(blockMin, timestamp);
+            blockMax = Math.max(blockMax, timestamp);
+            if (blockBuffer.size() >= blockSize) {
+                flushBlock();
+            }
+        }
+
+        long getRows() {
+            return rows + blockRows;
+        }
+
+        /**
+         * Write the index and footer and sync the file to disk
+         */
+        void finish() throws IOException {
+            if (blockRows > 0) {
+                flushBlock();
+            }
+            long indexOffset = position;
+            for (Block block : blocks) {
+                out.writeLong(block.offset());
+                out.writeInt(block.compressedLength());
+                out.writeInt(block.rawLength());
+                out.writeInt(block.rows());
+                out.writeLong(block.minTimestamp());
+                out.writeLong(block.maxTimestamp());
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(blocks.size());
+            out.writeLong(rows);
+            out.writeLong(rawBytes);
+            out.writeLong(rows > 0 ? minTimestamp : 0L);
+            out.writeLong(rows > 0 ? maxTimestamp : 0L);
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        }
+
+        @Override
+        public void close() throws IOException {
+            deflater.end();
+            out.close();
+        }
+
+        private void flushBlock() throws IOException {
+            byte[] raw = blockBuffer.toByteArray();
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                compressed.write(chunk, 0, length);
+            }
+
+            out.write(compressed.toByteArray());
+            blocks.add(new Block(position, compressed.size(), raw.length, blockRows, blockMin, blockMax));
+            position += compressed.size();
+
+            rows += blockRows;
+            rawBytes += raw.length;
+            minTimestamp = Math.min(minTimestamp, blockMin);
+            maxTimestamp = Math.max(maxTimestamp, blockMax);
+
+            blockBuffer.reset();
+            blockRows = 0;
+            blockMin = Long.MAX_VALUE;
+            blockMax = Long.MIN_VALUE;
+        }
+
+        Path getPath() {
+            return path;
+        }
+    }
+
+    private static void writeRow(DataOutputStream out, AuditLog log) throws IOException {
+        out.writeLong(log.getId());
+        out.writeLong(log.getUser() != null ? log.getUser().getId() : -1L);
+        writeString(out, log.getActionType().name());
+        writeString(out, log.getAction());
+        writeString(out, log.getDetails());
+        writeString(out, log.getIpAddress());
+        writeString(out, log.getUserAgent());
+        writeString(out, log.getSeverity().name());
+        out.writeBoolean(Boolean.TRUE.equals(log.getSuccess()));
+        writeString(out, log.getErrorMessage());
+        out.writeLong(toMillis(log.getTimestamp()));
+    }
+
+    private static AuditLog readRow(DataInputStream in) throws IOException {
+        AuditLog log = new AuditLog();
+        log.setId(in.readLong());
+        long userId = in.readLong();
+        if (userId >= 0) {
+            // Only the id survives archival; the user row may be long gone
+            User user = new User();
+            user.setId(userId);
+            log.setUser(user);
+        }
+        log.setActionType(AuditLog.ActionType.valueOf(readString(in)));
+        log.setAction(readString(in));
+        log.setDetails(readString(in));
+        log.setIpAddress(readString(in));
+        log.setUserAgent(readString(in));
+        log.setSeverity(AuditLog.Severity.valueOf(readString(in)));
+        log.setSuccess(in.readBoolean());
+        log.setErrorMessage(readString(in));
+        log.setTimestamp(fromMillis(in.readLong()));
+        return log;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of audit archive segment");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,213 @@
+package com.votingsystem.audit;
+
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import com.votingsystem.service.AuditLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Retention tiers for audit_logs. The table is range-partitioned by month on
+ * timestamp; this keeps partitions created ahead of time, and exports partitions
+ * older than the hot window into AuditArchive segments before dropping them.
+ */
+@Component
+public class AuditPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String SELECT_PARTITION_SQL =
+            "SELECT id, user_id, action_type, action, details, ip_address, user_agent, severity, success, " +
+            "error_message, timestamp FROM audit_logs PARTITION (%s) ORDER BY timestamp, id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Value("${voting.audit.retention.enabled:true}")
+    private boolean enabled;
+
+    // Current month plus this many previous months stay in MySQL
+    @Value("${voting.audit.retention.hot-months:3}")
+    private int hotMonths;
+
+    @Value("${voting.audit.retention.months-ahead:2}")
+    private int monthsAhead;
+
+    private volatile LocalDateTime lastRunAt;
+    private volatile String lastError;
+    private volatile List<String> partitions = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${voting.audit.retention.cron:0 30 3 * * *}")
+    public synchronized void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> current = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+            if (!current.contains(MAX_PARTITION)) {
+                logger.warn("audit_logs is not range-partitioned by month; apply the audit_logs definition " +
+                            "from schema.sql to enable audit retention");
+                lastError = "audit_logs is not partitioned";
+                return;
+            }
+
+            addFuturePartitions(current);
+            archiveExpiredPartitions(jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class));
+
+            partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+            lastError = null;
+        } catch (RuntimeException | IOException e) {
+            lastError = e.getMessage();
+            logger.error("Audit log retention run failed: {}", e.getMessage(), e);
+        } finally {
+            lastRunAt = LocalDateTime.now();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("hotMonths", hotMonths);
+        metrics.put("hotPartitions", partitions);
+        metrics.put("lastRunAt", lastRunAt);
+        metrics.put("lastError", lastError);
+        metrics.put("archive", auditArchive.getMetrics());
+        return metrics;
+    }
+
+    private void addFuturePartitions(List<String> existing) {
+        YearMonth highest = existing.stream()
+                .filter(AuditPartitionManager::isMonthly)
+                .map(AuditPartitionManager::monthOf)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        YearMonth now = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = now.plusMonths(i);
+            // Months at or below the highest bound are already covered by an existing partition
+            if (highest != null && !month.isAfter(highest)) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE audit_logs REORGANIZE PARTITION %s INTO (" +
+                    "PARTITION %s VALUES LESS THAN ('%s'), PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                    MAX_PARTITION, month.format(PARTITION_FORMAT), month.plusMonths(1).atDay(1),
+                    MAX_PARTITION));
+            highest = month;
+            logger.info("Created audit_logs partition {}", month.format(PARTITION_FORMAT));
+        }
+    }
+
+    private void archiveExpiredPartitions(List<String> existing) throws IOException {
+        YearMonth oldestHot = YearMonth.now().minusMonths(Math.max(hotMonths, 1) - 1);
+
+        for (String partition : existing) {
+            if (!isMonthly(partition) || !monthOf(partition).isBefore(oldestHot)) {
+                continue;
+            }
+            archivePartition(partition, monthOf(partition).toString());
+        }
+    }
+
+    private void archivePartition(String partition, String segmentName) throws IOException {
+        long rows = countRows(partition);
+
+        // A segment with the same row count is left from a run that stopped before the drop
+        if (auditArchive.segmentRows(segmentName) != rows) {
+            long written = auditArchive.write(segmentName, sink -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(String.format(SELECT_PARTITION_SQL, partition),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // Stream rows instead of buffering the whole month (MySQL Connector/J convention)
+                statement.setFetchSize(Integer.MIN_VALUE);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> sink.accept(mapRow(resultSet))));
+
+            if (written != rows) {
+                throw new IllegalStateException("Archived " + written + " rows from " + partition + ", expected " + rows);
+            }
+        }
+
+        // Entries that landed after the export keep the partition for the next run
+        if (countRows(partition) != rows) {
+            logger.warn("Audit partition {} changed during archival; will retry on the next run", partition);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE audit_logs DROP PARTITION " + partition);
+
+        auditLogService.logSuccess(null, AuditLog.ActionType.DATA_EXPORT, "Audit partition archived",
+                "Partition " + partition + ": " + rows + " rows moved to archive segment " + segmentName, null);
+        logger.info("Archived audit_logs partition {} ({} rows)", partition, rows);
+    }
+
+    private long countRows(String partition) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_logs PARTITION (" + partition + ")", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private static AuditLog mapRow(ResultSet resultSet) throws SQLException {
+        AuditLog log = new AuditLog();
+        log.setId(resultSet.getLong("id"));
+        long userId = resultSet.getLong("user_id");
+        if (!resultSet.wasNull()) {
+            User user = new User();
+            user.setId(userId);
+            log.setUser(user);
+        }
+        log.setActionType(AuditLog.ActionType.valueOf(resultSet.getString("action_type")));
+        log.setAction(resultSet.getString("action"));
+        log.setDetails(resultSet.getString("details"));
+        log.setIpAddress(resultSet.getString("ip_address"));
+        log.setUserAgent(resultSet.getString("user_agent"));
+        log.setSeverity(AuditLog.Severity.valueOf(resultSet.getString("severity")));
+        log.setSuccess(resultSet.getBoolean("success"));
+        log.setErrorMessage(resultSet.getString("error_message"));
+        log.setTimestamp(resultSet.getTimestamp("timestamp").toLocalDateTime());
+        return log;
+    }
+
+    private static boolean isMonthly(String partition) {
+        return partition.matches("p\\d{6}");
+    }
+
+    private static YearMonth monthOf(String partition) {
+        return YearMonth.parse(partition, PARTITION_FORMAT);
+    }
+}
@@ -0,0 +1,14 @@
+package com.votingsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs, except in the offline journal replay
+ */
+@Configuration
+@Profile("!journal-replay")
+@EnableScheduling
+public class SchedulingConfig {
+}
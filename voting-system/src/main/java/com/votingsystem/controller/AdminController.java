@@ -1,176 +1,479 @@
-package com.votingsystem.controller;
-
-import com.votingsystem.model.*;
-import com.votingsystem.repository.UserRepository;
-import com.votingsystem.service.AdminService;
-import com.votingsystem.service.AuditLogService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
-import java.util.Map;
-
-/**
- * Admin Controller
- */
-@RestController
-@RequestMapping("/api/admin")
-@CrossOrigin(origins = "*")
-public class AdminController {
-    
-    @Autowired
-    private AdminService adminService;
-    
-    @Autowired
-    private AuditLogService auditLogService;
-    
-    @Autowired
-    private UserRepository userRepository;
-    
-    @GetMapping("/dashboard")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getDashboard() {
-        Map<String, Object> stats = adminService.getDashboardStats();
-        return ResponseEntity.ok(stats);
-    }
-    
-    // ==================== Election Management ====================
-    
-    @GetMapping("/elections")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Election>> getAllElections() {
-        List<Election> elections = adminService.getAllElections();
-        return ResponseEntity.ok(elections);
-    }
-    
-    @PostMapping("/elections")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Election> createElection(@RequestBody Election election,
-                                                    Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        Election created = adminService.createElection(election, admin);
-        return ResponseEntity.ok(created);
-    }
-    
-    @PutMapping("/elections/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Election> updateElection(@PathVariable Long id,
-                                                    @RequestBody Election election,
-                                                    Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        Election updated = adminService.updateElection(id, election, admin);
-        return ResponseEntity.ok(updated);
-    }
-    
-    @DeleteMapping("/elections/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> deleteElection(@PathVariable Long id,
-                                                               Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        adminService.deleteElection(id, admin);
-        return ResponseEntity.ok(Map.of("message", "Election deleted successfully"));
-    }
-    
-    @PostMapping("/elections/{id}/publish-results")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> publishResults(@PathVariable Long id,
-                                                               Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        adminService.publishResults(id, admin);
-        return ResponseEntity.ok(Map.of("message", "Results published successfully"));
-    }
-    
-    // ==================== Candidate Management ====================
-    
-    @PostMapping("/candidates")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Candidate> addCandidate(@RequestBody Candidate candidate,
-                                                   Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        Candidate created = adminService.addCandidate(candidate, admin);
-        return ResponseEntity.ok(created);
-    }
-    
-    @PutMapping("/candidates/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Candidate> updateCandidate(@PathVariable Long id,
-                                                      @RequestBody Candidate candidate,
-                                                      Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        Candidate updated = adminService.updateCandidate(id, candidate, admin);
-        return ResponseEntity.ok(updated);
-    }
-    
-    @DeleteMapping("/candidates/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> deleteCandidate(@PathVariable Long id,
-                                                                Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        adminService.deleteCandidate(id, admin);
-        return ResponseEntity.ok(Map.of("message", "Candidate deleted successfully"));
-    }
-    
-    // ==================== Voter Management ====================
-    
-    @GetMapping("/voters")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Voter>> getAllVoters() {
-        List<Voter> voters = adminService.getAllVoters();
-        return ResponseEntity.ok(voters);
-    }
-    
-    @GetMapping("/voters/pending")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Voter>> getPendingVoters() {
-        List<Voter> voters = adminService.getPendingVoters();
-        return ResponseEntity.ok(voters);
-    }
-    
-    @PostMapping("/voters/{id}/verify")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> verifyVoter(@PathVariable Long id,
-                                                            Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        adminService.verifyVoter(id, admin);
-        return ResponseEntity.ok(Map.of("message", "Voter verified successfully"));
-    }
-    
-    @PostMapping("/voters/{id}/suspend")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> suspendVoter(@PathVariable Long id,
-                                                             Authentication authentication) {
-        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
-        adminService.suspendVoter(id, admin);
-        return ResponseEntity.ok(Map.of("message", "Voter suspended successfully"));
-    }
-    
-    // ==================== Results ====================
-    
-    @GetMapping("/results/{electionId}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getResults(@PathVariable Long electionId) {
-        Map<String, Object> results = adminService.getElectionResults(electionId);
-        return ResponseEntity.ok(results);
-    }
-    
-    // ==================== Audit Logs ====================
-    
-    @GetMapping("/logs")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<AuditLog>> getLogs(@RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "20") int size) {
-        Page<AuditLog> logs = auditLogService.getRecentLogs(page, size);
-        return ResponseEntity.ok(logs);
-    }
-    
-    @GetMapping("/logs/critical")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<AuditLog>> getCriticalLogs() {
-        List<AuditLog> logs = auditLogService.getCriticalLogs();
-        return ResponseEntity.ok(logs);
-    }
-}
+package com.votingsystem.controller;
+
+import com.votingsystem.audit.AuditPartitionManager;
+import com.votingsystem.dto.AuditLogFilter;
+import com.votingsystem.dto.AuditLogResponse;
+import com.votingsystem.dto.AuditLogSliceResponse;
+import com.votingsystem.dto.BulkVoterRequest;
+import com.votingsystem.dto.CandidateResponse;
+import com.votingsystem.dto.ElectionResponse;
+import com.votingsystem.dto.ElectionResultsResponse;
+import com.votingsystem.dto.VoterFilter;
+import com.votingsystem.dto.VoterResponse;
+import com.votingsystem.dto.VoterSlice;
+import com.votingsystem.importer.VoterRollFormat;
+import com.votingsystem.importer.VoterRollImporter;
+import com.votingsystem.journal.VoteJournal;
+import com.votingsystem.model.*;
+import com.votingsystem.repository.UserRepository;
+import com.votingsystem.security.JwtTokenUtil;
+import com.votingsystem.security.RateLimitFilter;
+import com.votingsystem.security.TokenRevocationList;
+import com.votingsystem.service.ActiveElectionIndex;
+import com.votingsystem.service.AdminService;
+import com.votingsystem.service.AuditLogService;
+import com.votingsystem.service.AuditLogWriter;
+import com.votingsystem.service.DashboardStatistics;
+import com.votingsystem.service.ElectionLifecycleScheduler;
+import com.votingsystem.service.ElectionMetadataCache;
+import com.votingsystem.service.ElectionTallyRegistry;
+import com.votingsystem.service.LiveResultsBroadcaster;
+import com.votingsystem.service.LoginAttemptTracker;
+import com.votingsystem.service.LoginExecutor;
+import com.votingsystem.service.SuspiciousActivityDetector;
+import com.votingsystem.service.VoteIngestionService;
+import com.votingsystem.service.VotedBitmapRegistry;
+import com.votingsystem.turnout.TurnoutRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin Controller
+ */
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+    
+    @Autowired
+    private AdminService adminService;
+    
+    @Autowired
+    private AuditLogService auditLogService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+    
+    @Autowired
+    private VotedBitmapRegistry votedBitmapRegistry;
+    
+    @Autowired
+    private ElectionTallyRegistry electionTallyRegistry;
+    
+    @Autowired
+    private VoteJournal voteJournal;
+    
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+    
+    @Autowired
+    private ActiveElectionIndex activeElectionIndex;
+    
+    @Autowired
+    private ElectionLifecycleScheduler electionLifecycleScheduler;
+    
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+    
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
+    
+    @Autowired
+    private SuspiciousActivityDetector suspiciousActivityDetector;
+    
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+    
+    @Autowired
+    private LoginExecutor loginExecutor;
+    
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+    
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
+    
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+    
+    @Autowired
+    private VoterRollImporter voterRollImporter;
+    
+    @Autowired
+    private DashboardStatistics dashboardStatistics;
+    
+    @Autowired
+    private LiveResultsBroadcaster liveResultsBroadcaster;
+    
+    @Autowired
+    private TurnoutRegistry turnoutRegistry;
+    
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDashboard() {
+        Map<String, Object> stats = adminService.getDashboardStats();
+        return ResponseEntity.ok(stats);
+    }
+    
+    // ==================== Election Management ====================
+    
+    @GetMapping("/elections")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ElectionResponse>> getAllElections() {
+        List<ElectionResponse> elections = adminService.getElectionSummaries();
+        return ResponseEntity.ok(elections);
+    }
+    
+    @PostMapping("/elections")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ElectionResponse> createElection(@RequestBody Election election,
+                                                            Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        Election created = adminService.createElection(election, admin);
+        return ResponseEntity.ok(ElectionResponse.from(created));
+    }
+    
+    @PutMapping("/elections/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ElectionResponse> updateElection(@PathVariable Long id,
+                                                            @RequestBody Election election,
+                                                            Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        Election updated = adminService.updateElection(id, election, admin);
+        return ResponseEntity.ok(ElectionResponse.from(updated));
+    }
+    
+    @DeleteMapping("/elections/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> deleteElection(@PathVariable Long id,
+                                                               Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        adminService.deleteElection(id, admin);
+        return ResponseEntity.ok(Map.of("message", "Election deleted successfully"));
+    }
+    
+    @PostMapping("/elections/{id}/publish-results")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> publishResults(@PathVariable Long id,
+                                                               Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        adminService.publishResults(id, admin);
+        return ResponseEntity.ok(Map.of("message", "Results published successfully"));
+    }
+    
+    // ==================== Candidate Management ====================
+    
+    @PostMapping("/candidates")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CandidateResponse> addCandidate(@RequestBody Candidate candidate,
+                                                           Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        Candidate created = adminService.addCandidate(candidate, admin);
+        return ResponseEntity.ok(CandidateResponse.from(created));
+    }
+    
+    @PutMapping("/candidates/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CandidateResponse> updateCandidate(@PathVariable Long id,
+                                                              @RequestBody Candidate candidate,
+                                                              Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        Candidate updated = adminService.updateCandidate(id, candidate, admin);
+        return ResponseEntity.ok(CandidateResponse.from(updated));
+    }
+    
+    @DeleteMapping("/candidates/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> deleteCandidate(@PathVariable Long id,
+                                                                Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        adminService.deleteCandidate(id, admin);
+        return ResponseEntity.ok(Map.of("message", "Candidate deleted successfully"));
+    }
+    
+    // ==================== Voter Management ====================
+    
+    @GetMapping("/voters")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<VoterResponse>> getAllVoters() {
+        List<VoterResponse> voters = adminService.getVoterSummaries();
+        return ResponseEntity.ok(voters);
+    }
+    
+    @GetMapping("/voters/pending")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<VoterResponse>> getPendingVoters() {
+        List<VoterResponse> voters = adminService.getPendingVoterSummaries();
+        return ResponseEntity.ok(voters);
+    }
+    
+    @GetMapping("/voters/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VoterSlice> scrollVoters(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) Voter.VoterStatus status,
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredTo) {
+        VoterFilter filter = new VoterFilter(status, verified, city, state, namePrefix, registeredFrom, registeredTo);
+        return ResponseEntity.ok(adminService.getVotersAfter(filter, cursor, limit));
+    }
+    
+    @PostMapping("/voters/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> importVoters(@RequestParam String file,
+                                                            @RequestParam(required = false) VoterRollFormat format,
+                                                            @RequestParam(defaultValue = "true") boolean resume,
+                                                            Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        return ResponseEntity.accepted().body(voterRollImporter.start(file, format, resume, admin));
+    }
+    
+    @GetMapping("/voters/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getVoterImportStatus() {
+        return ResponseEntity.ok(voterRollImporter.getStatus());
+    }
+    
+    @DeleteMapping("/voters/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> stopVoterImport() {
+        voterRollImporter.requestStop();
+        return ResponseEntity.ok(voterRollImporter.getStatus());
+    }
+    
+    @PostMapping("/voters/{id}/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> verifyVoter(@PathVariable Long id,
+                                                            Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        adminService.verifyVoter(id, admin);
+        return ResponseEntity.ok(Map.of("message", "Voter verified successfully"));
+    }
+    
+    @PostMapping("/voters/{id}/suspend")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> suspendVoter(@PathVariable Long id,
+                                                             Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        adminService.suspendVoter(id, admin);
+        return ResponseEntity.ok(Map.of("message", "Voter suspended successfully"));
+    }
+    
+    @PostMapping("/voters/bulk/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> bulkVerifyVoters(@RequestBody BulkVoterRequest request,
+                                                                Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        return ResponseEntity.ok(adminService.bulkVerifyVoters(request, admin));
+    }
+    
+    @PostMapping("/voters/bulk/suspend")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> bulkSuspendVoters(@RequestBody BulkVoterRequest request,
+                                                                 Authentication authentication) {
+        User admin = userRepository.findByUsername(authentication.getName()).orElse(null);
+        return ResponseEntity.ok(adminService.bulkSuspendVoters(request, admin));
+    }
+    
+    // ==================== Results ====================
+    
+    @GetMapping("/results/{electionId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ElectionResultsResponse> getResults(@PathVariable Long electionId) {
+        return ResponseEntity.ok(adminService.getElectionResults(electionId));
+    }
+    
+    /**
+     * Live results as Server-Sent Events: a snapshot, then coalesced deltas while votes arrive
+     */
+    @GetMapping(value = "/results/{electionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamResults(@PathVariable Long electionId,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return liveResultsBroadcaster.stream(electionId, lastEventId);
+    }
+    
+    /**
+     * Votes per bucket of bucketMinutes with the running total; 60 gives votes per hour
+     */
+    @GetMapping("/results/{electionId}/turnout")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getTurnout(@PathVariable Long electionId,
+                                                          @RequestParam(defaultValue = "60") int bucketMinutes) {
+        return ResponseEntity.ok(turnoutRegistry.getTurnout(electionId, bucketMinutes));
+    }
+    
+    /**
+     * Votes cast in [from, to), at minute resolution
+     */
+    @GetMapping("/results/{electionId}/turnout/count")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> countTurnout(
+            @PathVariable Long electionId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("electionId", electionId);
+        response.put("from", from);
+        response.put("to", to);
+        response.put("votes", turnoutRegistry.countBetween(electionId, from, to));
+        return ResponseEntity.ok(response);
+    }
+    
+    // ==================== Audit Logs ====================
+    
+    @GetMapping("/logs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<AuditLogResponse>> getLogs(@RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        Page<AuditLogResponse> logs = auditLogService.getRecentLogResponses(page, size);
+        return ResponseEntity.ok(logs);
+    }
+    
+    @GetMapping("/logs/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditLogSliceResponse> scrollLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) AuditLog.ActionType actionType,
+            @RequestParam(required = false) AuditLog.Severity severity,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        AuditLogFilter filter = new AuditLogFilter(actionType, severity, userId, from, to);
+        return ResponseEntity.ok(AuditLogSliceResponse.from(auditLogService.getLogsAfter(filter, cursor, limit)));
+    }
+    
+    @GetMapping("/logs/critical")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AuditLogResponse>> getCriticalLogs() {
+        List<AuditLogResponse> logs = auditLogService.getCriticalLogResponses();
+        return ResponseEntity.ok(logs);
+    }
+    
+    // ==================== Metrics ====================
+    
+    @GetMapping("/metrics/dashboard-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDashboardStatsMetrics() {
+        return ResponseEntity.ok(dashboardStatistics.getMetrics());
+    }
+    
+    @GetMapping("/metrics/live-results")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getLiveResultsMetrics() {
+        return ResponseEntity.ok(liveResultsBroadcaster.getMetrics());
+    }
+    
+    @GetMapping("/metrics/turnout")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getTurnoutMetrics() {
+        return ResponseEntity.ok(turnoutRegistry.getMetrics());
+    }
+    
+    @GetMapping("/metrics/ingestion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getIngestionMetrics() {
+        return ResponseEntity.ok(voteIngestionService.getMetrics());
+    }
+    
+    @GetMapping("/metrics/voted-bitmaps")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getVotedBitmapFootprint() {
+        return ResponseEntity.ok(votedBitmapRegistry.getFootprint());
+    }
+    
+    @GetMapping("/metrics/tally-reconciliation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getTallyReconciliation() {
+        return ResponseEntity.ok(electionTallyRegistry.getLastReconciliation());
+    }
+    
+    @GetMapping("/metrics/journal")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getJournalMetrics() {
+        return ResponseEntity.ok(voteJournal.getMetrics());
+    }
+    
+    @GetMapping("/metrics/metadata-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getMetadataCacheStatistics() {
+        return ResponseEntity.ok(electionMetadataCache.getStatistics());
+    }
+    
+    @GetMapping("/metrics/active-election-index")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getActiveElectionIndexStatistics() {
+        return ResponseEntity.ok(activeElectionIndex.getStatistics());
+    }
+    
+    @GetMapping("/metrics/lifecycle")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getLifecycleMetrics() {
+        return ResponseEntity.ok(electionLifecycleScheduler.getMetrics());
+    }
+    
+    @GetMapping("/metrics/audit-writer")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getAuditWriterMetrics() {
+        return ResponseEntity.ok(auditLogWriter.getMetrics());
+    }
+    
+    @GetMapping("/metrics/audit-archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getAuditArchiveMetrics() {
+        return ResponseEntity.ok(auditPartitionManager.getMetrics());
+    }
+    
+    @GetMapping("/metrics/suspicious-activity")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSuspiciousActivityMetrics() {
+        return ResponseEntity.ok(suspiciousActivityDetector.getMetrics());
+    }
+    
+    @GetMapping("/metrics/token-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getTokenCacheMetrics() {
+        return ResponseEntity.ok(jwtTokenUtil.getCacheStatistics());
+    }
+    
+    @GetMapping("/metrics/login")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getLoginMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>(loginExecutor.getMetrics());
+        metrics.put("failedAttempts", loginAttemptTracker.getMetrics());
+        return ResponseEntity.ok(metrics);
+    }
+    
+    @GetMapping("/metrics/rate-limits")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRateLimitMetrics() {
+        return ResponseEntity.ok(rateLimitFilter.getMetrics());
+    }
+    
+    @GetMapping("/metrics/token-revocation")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getTokenRevocationMetrics() {
+        return ResponseEntity.ok(tokenRevocationList.getMetrics());
+    }
+}
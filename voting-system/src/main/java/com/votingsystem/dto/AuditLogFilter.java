@@ -0,0 +1,20 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.AuditLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional audit log filters; null fields are not applied.
+ * The time range is [from, to).
+ */
+public record AuditLogFilter(AuditLog.ActionType actionType,
+                             AuditLog.Severity severity,
+                             Long userId,
+                             LocalDateTime from,
+                             LocalDateTime to) {
+
+    public static AuditLogFilter none() {
+        return new AuditLogFilter(null, null, null, null, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit log entry as returned by the REST API, with the user flattened to id and username
+ */
+public record AuditLogResponse(Long id,
+                               Long userId,
+                               String username,
+                               AuditLog.ActionType actionType,
+                               String action,
+                               String details,
+                               String ipAddress,
+                               String userAgent,
+                               AuditLog.Severity severity,
+                               Boolean success,
+                               String errorMessage,
+                               LocalDateTime timestamp) {
+
+    /**
+     * The username is only included when the user is already loaded, so mapping never issues queries
+     */
+    public static AuditLogResponse from(AuditLog log) {
+        User user = log.getUser();
+        return new AuditLogResponse(log.getId(), user != null ? user.getId() : null,
+                user != null && Hibernate.isInitialized(user) ? user.getUsername() : null,
+                log.getActionType(), log.getAction(), log.getDetails(), log.getIpAddress(), log.getUserAgent(),
+                log.getSeverity(), log.getSuccess(), log.getErrorMessage(), log.getTimestamp());
+    }
+}
@@ -0,0 +1,12 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.AuditLog;
+
+import java.util.List;
+
+/**
+ * One keyset page of audit log entries, newest first. No total count is computed;
+ * nextCursor is null once the end of the log is reached.
+ */
+public record AuditLogSlice(List<AuditLog> items, String nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,14 @@
+package com.votingsystem.dto;
+
+import java.util.List;
+
+/**
+ * AuditLogSlice as returned by the REST API
+ */
+public record AuditLogSliceResponse(List<AuditLogResponse> items, String nextCursor, boolean hasMore) {
+
+    public static AuditLogSliceResponse from(AuditLogSlice slice) {
+        return new AuditLogSliceResponse(slice.items().stream().map(AuditLogResponse::from).toList(),
+                slice.nextCursor(), slice.hasMore());
+    }
+}
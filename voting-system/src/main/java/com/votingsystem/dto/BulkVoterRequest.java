@@ -0,0 +1,9 @@
+package com.votingsystem.dto;
+
+import java.util.List;
+
+/**
+ * Voters targeted by a bulk action: either explicit ids or a non-empty filter
+ */
+public record BulkVoterRequest(List<Long> ids, VoterFilter filter) {
+}
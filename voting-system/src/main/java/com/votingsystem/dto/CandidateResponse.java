@@ -0,0 +1,32 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.Candidate;
+
+/**
+ * Candidate as returned by the REST API. The election is referenced by id only, and
+ * the stored vote count is left out; results are served by the results endpoints.
+ */
+public record CandidateResponse(Long id,
+                                Long electionId,
+                                String name,
+                                String partyName,
+                                String partySymbol,
+                                String biography,
+                                String manifesto,
+                                String photoPath,
+                                String symbolImagePath,
+                                String education,
+                                String experience,
+                                Integer age,
+                                Boolean active,
+                                Integer displayOrder) {
+
+    public static CandidateResponse from(Candidate candidate) {
+        // getId() on a lazy election reference does not load it
+        Long electionId = candidate.getElection() != null ? candidate.getElection().getId() : null;
+        return new CandidateResponse(candidate.getId(), electionId, candidate.getName(), candidate.getPartyName(),
+                candidate.getPartySymbol(), candidate.getBiography(), candidate.getManifesto(),
+                candidate.getPhotoPath(), candidate.getSymbolImagePath(), candidate.getEducation(),
+                candidate.getExperience(), candidate.getAge(), candidate.getActive(), candidate.getDisplayOrder());
+    }
+}
@@ -0,0 +1,26 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.Election;
+
+import java.time.LocalDateTime;
+
+/**
+ * Election as returned by the REST API, without its candidate and vote collections
+ */
+public record ElectionResponse(Long id,
+                               String name,
+                               String description,
+                               Election.ElectionType type,
+                               LocalDateTime startTime,
+                               LocalDateTime endTime,
+                               Election.ElectionStatus status,
+                               Boolean resultsPublished,
+                               LocalDateTime resultsPublishedAt,
+                               LocalDateTime createdAt) {
+
+    public static ElectionResponse from(Election election) {
+        return new ElectionResponse(election.getId(), election.getName(), election.getDescription(),
+                election.getType(), election.getStartTime(), election.getEndTime(), election.getStatus(),
+                election.getResultsPublished(), election.getResultsPublishedAt(), election.getCreatedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.votingsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Results of an election, highest vote count first. frozenAt is set once the results
+ * are served from the snapshot taken at close, and null while they are live.
+ */
+public record ElectionResultsResponse(ElectionResponse election,
+                                      long totalVotes,
+                                      LocalDateTime frozenAt,
+                                      List<CandidateResult> candidates) {
+
+    public record CandidateResult(Long id,
+                                  String name,
+                                  String party,
+                                  long votes) {
+    }
+}
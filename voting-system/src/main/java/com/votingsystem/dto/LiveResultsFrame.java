@@ -0,0 +1,34 @@
+package com.votingsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One frame of an election's live results stream.
+ * <p>
+ * SNAPSHOT and CLOSED frames list every candidate with name and party; a DELTA frame
+ * lists only candidates whose count changed since the previous frame, without names.
+ * Counts are always absolute, so applying a frame twice is harmless.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiveResultsFrame(String id,
+                               Type type,
+                               Long electionId,
+                               long totalVotes,
+                               long verifiedVoters,
+                               double turnoutPercent,
+                               List<CandidateVotes> candidates,
+                               LocalDateTime at) {
+
+    public enum Type {
+        SNAPSHOT,
+        DELTA,
+        CLOSED
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record CandidateVotes(Long id, String name, String party, long votes) {
+    }
+}
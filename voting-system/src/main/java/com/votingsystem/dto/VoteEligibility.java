@@ -0,0 +1,19 @@
+package com.votingsystem.dto;
+
+/**
+ * Voter-side facts castVote needs to accept or reject a ballot, loaded in one query.
+ * Election and candidate checks are served from ElectionMetadataCache.
+ */
+public record VoteEligibility(Long voterId,
+                              Boolean verified,
+                              Boolean eligible,
+                              Long priorVotes) {
+
+    public boolean isVoterEligible() {
+        return Boolean.TRUE.equals(verified) && Boolean.TRUE.equals(eligible);
+    }
+
+    public boolean hasVoted() {
+        return priorVotes != null && priorVotes > 0;
+    }
+}
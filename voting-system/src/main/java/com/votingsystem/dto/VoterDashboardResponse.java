@@ -0,0 +1,19 @@
+package com.votingsystem.dto;
+
+import java.util.List;
+
+/**
+ * A voter's own status, the elections open now and whether they have voted in each
+ */
+public record VoterDashboardResponse(String voterName,
+                                     String voterId,
+                                     Boolean verified,
+                                     String status,
+                                     List<ElectionResponse> activeElections,
+                                     List<VotingStatus> votingStatus) {
+
+    public record VotingStatus(Long electionId,
+                               String electionName,
+                               boolean hasVoted) {
+    }
+}
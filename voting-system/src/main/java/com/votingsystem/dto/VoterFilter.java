@@ -0,0 +1,34 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.Voter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional voter filters; null or blank fields are not applied.
+ * namePrefix matches the start of the full name; the registration range is [from, to).
+ */
+public record VoterFilter(Voter.VoterStatus status,
+                          Boolean verified,
+                          String city,
+                          String state,
+                          String namePrefix,
+                          LocalDateTime registeredFrom,
+                          LocalDateTime registeredTo) {
+
+    public static VoterFilter none() {
+        return new VoterFilter(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * True when no filter is applied, i.e. the filter matches every voter
+     */
+    public boolean isEmpty() {
+        return status == null && verified == null && isBlank(city) && isBlank(state) && isBlank(namePrefix)
+                && registeredFrom == null && registeredTo == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,39 @@
+package com.votingsystem.dto;
+
+import com.votingsystem.model.Voter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Voter as returned by the REST API; credentials and login counters stay server-side
+ */
+public record VoterResponse(Long id,
+                            String username,
+                            String voterId,
+                            String nationalId,
+                            String fullName,
+                            LocalDate dateOfBirth,
+                            String gender,
+                            String address,
+                            String city,
+                            String state,
+                            String zipCode,
+                            String phoneNumber,
+                            String email,
+                            Boolean verified,
+                            Boolean eligible,
+                            Voter.VoterStatus status,
+                            Boolean active,
+                            Boolean accountLocked,
+                            LocalDateTime lastLoginAt,
+                            LocalDateTime createdAt) {
+
+    public static VoterResponse from(Voter voter) {
+        return new VoterResponse(voter.getId(), voter.getUsername(), voter.getVoterId(), voter.getNationalId(),
+                voter.getFullName(), voter.getDateOfBirth(), voter.getGender(), voter.getAddress(), voter.getCity(),
+                voter.getState(), voter.getZipCode(), voter.getPhoneNumber(), voter.getEmail(), voter.getVerified(),
+                voter.getEligible(), voter.getStatus(), voter.getActive(), voter.getAccountLocked(),
+                voter.getLastLoginAt(), voter.getCreatedAt());
+    }
+}
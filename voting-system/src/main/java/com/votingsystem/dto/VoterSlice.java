@@ -0,0 +1,10 @@
+package com.votingsystem.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of voters in id order. No total count is computed;
+ * nextCursor is the last id on the page, or null once the end is reached.
+ */
+public record VoterSlice(List<VoterResponse> items, Long nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,8 @@
+package com.votingsystem.event;
+
+/**
+ * Published once audit entries inserted into audit_logs have committed, with how many of
+ * them were SUSPICIOUS_ACTIVITY entries
+ */
+public record AuditLogsWrittenEvent(int entries, int suspiciousActivities) {
+}
@@ -0,0 +1,15 @@
+package com.votingsystem.event;
+
+/**
+ * Published when an election or one of its candidates is created, changed or removed
+ */
+public record ElectionMetadataChangedEvent(Long electionId, Long candidateId) {
+
+    public static ElectionMetadataChangedEvent election(Long electionId) {
+        return new ElectionMetadataChangedEvent(electionId, null);
+    }
+
+    public static ElectionMetadataChangedEvent candidate(Long electionId, Long candidateId) {
+        return new ElectionMetadataChangedEvent(electionId, candidateId);
+    }
+}
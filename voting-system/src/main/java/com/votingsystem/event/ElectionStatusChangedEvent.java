@@ -0,0 +1,11 @@
+package com.votingsystem.event;
+
+import com.votingsystem.model.Election;
+
+import java.util.List;
+
+/**
+ * Published after the lifecycle engine moves elections to a new status
+ */
+public record ElectionStatusChangedEvent(List<Long> electionIds, Election.ElectionStatus status) {
+}
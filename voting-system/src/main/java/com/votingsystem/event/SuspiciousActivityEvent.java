@@ -0,0 +1,17 @@
+package com.votingsystem.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when failed logins for a user, an IP address or an IP/user-agent pair
+ * exceed their threshold within the detection window
+ */
+public record SuspiciousActivityEvent(Source source, Long userId, String ipAddress, String userAgent,
+                                      int failures, long windowSeconds, LocalDateTime detectedAt) {
+
+    public enum Source {
+        USER,
+        IP,
+        CLIENT
+    }
+}
@@ -0,0 +1,13 @@
+package com.votingsystem.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once a vote's transaction has committed
+ */
+public record VoteCommittedEvent(Long voteId,
+                                 Long voterId,
+                                 Long electionId,
+                                 Long candidateId,
+                                 LocalDateTime votedAt) {
+}
@@ -0,0 +1,15 @@
+package com.votingsystem.event;
+
+/**
+ * Published when voters are registered or change verification state. Fields are
+ * deltas: newly registered voters, change in verified voters, change in PENDING voters.
+ */
+public record VoterCountsChangedEvent(long registered, long verified, long pending) {
+
+    /**
+     * New voters start unverified and PENDING
+     */
+    public static VoterCountsChangedEvent registered(long count) {
+        return new VoterCountsChangedEvent(count, 0, count);
+    }
+}
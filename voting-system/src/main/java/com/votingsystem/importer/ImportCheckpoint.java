@@ -0,0 +1,104 @@
+package com.votingsystem.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Progress of an import as of its last committed batch. position is the number of
+ * records consumed from the file; fileSize guards against resuming over a different file.
+ * pending, when set, is the progress the batch being committed leads to; whether that
+ * commit happened is decided on resume from its first user id.
+ */
+record ImportCheckpoint(long fileSize,
+                        long position,
+                        long imported,
+                        long duplicates,
+                        long rejected,
+                        Pending pending) {
+
+    record Pending(long firstUserId,
+                   long position,
+                   long imported,
+                   long duplicates,
+                   long rejected) {
+    }
+
+    ImportCheckpoint(long fileSize, long position, long imported, long duplicates, long rejected) {
+        this(fileSize, position, imported, duplicates, rejected, null);
+    }
+
+    ImportCheckpoint withPending(Pending next) {
+        return new ImportCheckpoint(fileSize, position, imported, duplicates, rejected, next);
+    }
+
+    /**
+     * The checkpoint once the pending batch is known to have committed, or not
+     */
+    ImportCheckpoint settle(boolean committed) {
+        if (pending == null || !committed) {
+            return new ImportCheckpoint(fileSize, position, imported, duplicates, rejected);
+        }
+        return new ImportCheckpoint(fileSize, pending.position(), pending.imported(), pending.duplicates(),
+                pending.rejected());
+    }
+
+    /**
+     * Checkpoint saved at the path, or null if there is none
+     */
+    static ImportCheckpoint load(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Pending pending = null;
+        if (properties.getProperty("pending.firstUserId") != null) {
+            pending = new Pending(
+                    Long.parseLong(properties.getProperty("pending.firstUserId")),
+                    Long.parseLong(properties.getProperty("pending.position")),
+                    Long.parseLong(properties.getProperty("pending.imported")),
+                    Long.parseLong(properties.getProperty("pending.duplicates")),
+                    Long.parseLong(properties.getProperty("pending.rejected")));
+        }
+        return new ImportCheckpoint(
+                Long.parseLong(properties.getProperty("fileSize")),
+                Long.parseLong(properties.getProperty("position")),
+                Long.parseLong(properties.getProperty("imported")),
+                Long.parseLong(properties.getProperty("duplicates")),
+                Long.parseLong(properties.getProperty("rejected")),
+                pending);
+    }
+
+    /**
+     * Write through a temporary file and swap it in, so a crash leaves the old or the new checkpoint
+     */
+    void save(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("fileSize", Long.toString(fileSize));
+        properties.setProperty("position", Long.toString(position));
+        properties.setProperty("imported", Long.toString(imported));
+        properties.setProperty("duplicates", Long.toString(duplicates));
+        properties.setProperty("rejected", Long.toString(rejected));
+        if (pending != null) {
+            properties.setProperty("pending.firstUserId", Long.toString(pending.firstUserId()));
+            properties.setProperty("pending.position", Long.toString(pending.position()));
+            properties.setProperty("pending.imported", Long.toString(pending.imported()));
+            properties.setProperty("pending.duplicates", Long.toString(pending.duplicates()));
+            properties.setProperty("pending.rejected", Long.toString(pending.rejected()));
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Voter roll import checkpoint");
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,25 @@
+package com.votingsystem.importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Supported voter roll file formats
+ */
+public enum VoterRollFormat {
+    /** Comma-separated with a header row naming the columns */
+    CSV,
+    /** One JSON object per line */
+    NDJSON;
+
+    /**
+     * Format implied by the file extension; anything that is not JSON is read as CSV
+     */
+    public static VoterRollFormat forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
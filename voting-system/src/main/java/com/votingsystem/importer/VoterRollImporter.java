@@ -0,0 +1,466 @@
+package com.votingsystem.importer;
+
+import com.votingsystem.event.VoterCountsChangedEvent;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import com.votingsystem.service.AuditLogService;
+import com.votingsystem.service.IdBlockAllocator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk import of voter rolls from CSV or NDJSON files, one job at a time.
+ * <p>
+ * The file is streamed in batches. Voter id, national id and username uniqueness is
+ * checked against sets preloaded from the database, so duplicates cost no query.
+ * Passwords of the next batch are BCrypt-hashed on a pool of all cores while the
+ * current batch is inserted into users and voters with JDBC batches in one
+ * transaction, using ids reserved from IdBlockAllocator. A checkpoint next to the file
+ * records the position around each commit, and a failed or stopped job resumes there.
+ * Keys are compared case-insensitively, as the unique indexes compare them.
+ * Imported voters are PENDING and unverified, as with self-registration.
+ */
+@Component
+public class VoterRollImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoterRollImporter.class);
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, username, password, role, active, account_locked, failed_login_attempts, " +
+            "created_at, updated_at) VALUES (?, ?, ?, 'VOTER', TRUE, FALSE, 0, ?, ?)";
+
+    private static final String INSERT_VOTER =
+            "INSERT INTO voters (user_id, voter_id, national_id, full_name, date_of_birth, gender, address, " +
+            "city, state, zip_code, phone_number, email, verified, eligible, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, TRUE, 'PENDING')";
+
+    private static final int MAX_REJECTIONS_KEPT = 100;
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        STOPPED,
+        FAILED
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Import files are only read from here
+    @Value("${voting.import.directory:data/imports}")
+    private String directory;
+
+    @Value("${voting.import.batch-size:1000}")
+    private int batchSize;
+
+    // 0 means one hashing thread per available core
+    @Value("${voting.import.hash-threads:0}")
+    private int hashThreads;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService jobExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private volatile Job current;
+
+    /**
+     * Progress of one run; written by the job thread only
+     */
+    private static final class Job {
+        private final String file;
+        private final VoterRollFormat format;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong position = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final Deque<String> recentRejections = new ConcurrentLinkedDeque<>();
+        private volatile long resumedFrom;
+        private volatile long importedBefore;
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private Job(String file, VoterRollFormat format) {
+            this.file = file;
+            this.format = format;
+        }
+    }
+
+    /**
+     * Records of one batch and their password hashes, which complete on the hashing pool
+     */
+    private static final class Batch {
+        private final List<VoterRollRecord> records = new ArrayList<>();
+        private List<CompletableFuture<String>> hashes = List.of();
+        private long endPosition;
+        private long duplicates;
+        private long rejected;
+    }
+
+    /**
+     * Usernames, voter ids and national ids already taken, in the database or earlier in the file
+     */
+    private static final class TakenKeys {
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> voterIds = new HashSet<>();
+        private final Set<String> nationalIds = new HashSet<>();
+
+        private boolean claim(VoterRollRecord record) {
+            String username = normalize(record.username());
+            String voterId = normalize(record.voterId());
+            String nationalId = normalize(record.nationalId());
+            if (usernames.contains(username) || voterIds.contains(voterId) || nationalIds.contains(nationalId)) {
+                return false;
+            }
+            usernames.add(username);
+            voterIds.add(voterId);
+            nationalIds.add(nationalId);
+            return true;
+        }
+
+        /**
+         * The key as the default case-insensitive collation compares it
+         */
+        private static String normalize(String key) {
+            return key == null ? null : key.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voter-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // The job stops after its current batch, leaving a checkpoint to resume from
+        stopRequested = true;
+        jobExecutor.shutdown();
+        jobExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Start importing a file from the import directory in the background. With resume,
+     * a checkpoint left by an earlier run of the same file is continued; otherwise the
+     * file is read from the start. The format defaults to the one implied by the extension.
+     */
+    public Map<String, Object> start(String fileName, VoterRollFormat format, boolean resume, User admin) {
+        Path source = resolve(fileName);
+        if (!Files.isRegularFile(source)) {
+            throw new RuntimeException("Import file not found: " + fileName);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("A voter import is already running");
+        }
+
+        stopRequested = false;
+        Job job = new Job(fileName, format != null ? format : VoterRollFormat.forFile(source));
+        current = job;
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    run(job, source, resume, admin);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw new RuntimeException("Voter import is shutting down");
+        }
+        return getStatus();
+    }
+
+    /**
+     * Ask the running job to stop after the batch it is writing; it can be resumed later
+     */
+    public void requestStop() {
+        if (running.get()) {
+            stopRequested = true;
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Job job = current;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("batchSize", batchSize);
+        status.put("hashThreads", hashPoolSize());
+        if (job == null) {
+            status.put("state", State.IDLE);
+            return status;
+        }
+
+        Instant end = job.finishedAt != null ? job.finishedAt : Instant.now();
+        double seconds = Math.max(0.001, Duration.between(job.startedAt, end).toMillis() / 1000.0);
+        long importedThisRun = job.imported.get() - job.importedBefore;
+
+        status.put("state", job.state);
+        status.put("file", job.file);
+        status.put("format", job.format);
+        status.put("resumedFrom", job.resumedFrom);
+        status.put("position", job.position.get());
+        status.put("imported", job.imported.get());
+        status.put("duplicates", job.duplicates.get());
+        status.put("rejected", job.rejected.get());
+        status.put("batches", job.batches.get());
+        status.put("startedAt", job.startedAt);
+        status.put("finishedAt", job.finishedAt);
+        status.put("elapsedSeconds", Math.round(seconds));
+        status.put("votersPerSecond", Math.round(importedThisRun / seconds * 10) / 10.0);
+        status.put("error", job.error);
+        status.put("recentRejections", List.copyOf(job.recentRejections));
+        return status;
+    }
+
+    private void run(Job job, Path source, boolean resume, User admin) {
+        Path checkpointPath = source.resolveSibling(source.getFileName() + ".checkpoint");
+        try {
+            long fileSize = Files.size(source);
+            ImportCheckpoint checkpoint = resume ? ImportCheckpoint.load(checkpointPath) : null;
+            if (checkpoint != null && checkpoint.pending() != null) {
+                // A crash during or right after the commit of a batch: its first user tells which
+                Integer found = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?",
+                        Integer.class, checkpoint.pending().firstUserId());
+                checkpoint = checkpoint.settle(found != null && found > 0);
+            }
+            if (checkpoint != null) {
+                if (checkpoint.fileSize() != fileSize) {
+                    throw new IllegalStateException(
+                            "Checkpoint was written for a different version of the file; start without resume");
+                }
+                job.resumedFrom = checkpoint.position();
+                job.position.set(checkpoint.position());
+                job.imported.set(checkpoint.imported());
+                job.importedBefore = checkpoint.imported();
+                job.duplicates.set(checkpoint.duplicates());
+                job.rejected.set(checkpoint.rejected());
+            } else {
+                Files.deleteIfExists(checkpointPath);
+            }
+
+            logger.info("Importing voter roll {} from record {}", job.file, job.resumedFrom);
+            importRecords(job, source, fileSize, checkpointPath, loadTakenKeys());
+
+            if (stopRequested) {
+                finish(job, State.STOPPED, null);
+                logger.info("Voter roll import of {} stopped at record {}", job.file, job.position.get());
+                return;
+            }
+            Files.deleteIfExists(checkpointPath);
+            finish(job, State.COMPLETED, null);
+            logger.info("Imported {} voters from {} ({} duplicates, {} rejected)",
+                    job.imported.get(), job.file, job.duplicates.get(), job.rejected.get());
+            auditLogService.logSuccess(admin, AuditLog.ActionType.VOTER_REGISTERED, "Voter roll imported",
+                    "File: " + job.file + ", imported: " + job.imported.get() + ", duplicates: "
+                            + job.duplicates.get() + ", rejected: " + job.rejected.get(), null);
+        } catch (Exception e) {
+            finish(job, State.FAILED, e.getMessage());
+            logger.error("Voter roll import of {} failed at record {}: {}", job.file, job.position.get(), e.getMessage());
+            auditLogService.logError(admin, AuditLog.ActionType.VOTER_REGISTERED, "Voter roll import failed",
+                    "File: " + job.file + ", position: " + job.position.get() + ": " + e.getMessage(), null);
+        }
+    }
+
+    private void importRecords(Job job, Path source, long fileSize, Path checkpointPath, TakenKeys taken)
+            throws IOException {
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService hashPool = Executors.newFixedThreadPool(hashPoolSize(), runnable -> {
+            Thread thread = new Thread(runnable, "voter-import-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (VoterRollReader reader = new VoterRollReader(source, job.format)) {
+            long skipped = reader.skip(job.resumedFrom);
+            if (skipped < job.resumedFrom) {
+                throw new IllegalStateException("File has fewer records than the checkpoint position");
+            }
+
+            // Hash the next batch while the previous one is written
+            long position = job.resumedFrom;
+            Batch pending = null;
+            while (!stopRequested) {
+                Batch batch = readBatch(reader, job, taken, position);
+                if (batch != null) {
+                    position = batch.endPosition;
+                    batch.hashes = batch.records.stream()
+                            .map(record -> CompletableFuture.supplyAsync(
+                                    () -> passwordEncoder.encode(record.password()), hashPool))
+                            .toList();
+                }
+                if (pending != null) {
+                    write(job, pending, fileSize, checkpointPath);
+                }
+                if (batch == null) {
+                    break;
+                }
+                pending = batch;
+            }
+        } finally {
+            hashPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Up to batchSize more records from the file, keeping those that are valid and not yet
+     * taken; null at the end of the file
+     */
+    private Batch readBatch(VoterRollReader reader, Job job, TakenKeys taken, long position) throws IOException {
+        Batch batch = new Batch();
+        long consumed = 0;
+        while (consumed < batchSize) {
+            VoterRollRecord record;
+            try {
+                Map<String, String> fields = reader.next();
+                if (fields == null) {
+                    break;
+                }
+                record = VoterRollRecord.from(fields);
+            } catch (IllegalArgumentException e) {
+                record = null;
+                batch.rejected++;
+                reject(job, reader.getLineNumber(), e.getMessage());
+            }
+            consumed++;
+            if (record == null) {
+                continue;
+            }
+            if (taken.claim(record)) {
+                batch.records.add(record);
+            } else {
+                batch.duplicates++;
+            }
+        }
+        if (consumed == 0) {
+            return null;
+        }
+        batch.endPosition = position + consumed;
+        return batch;
+    }
+
+    /**
+     * Insert a batch and move the checkpoint past it. The checkpoint names the batch before
+     * the commit, so a resume after a crash in between counts it once either way.
+     */
+    private void write(Job job, Batch batch, long fileSize, Path checkpointPath) throws IOException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(batch.records.size());
+        List<Object[]> voters = new ArrayList<>(batch.records.size());
+        for (int i = 0; i < batch.records.size(); i++) {
+            VoterRollRecord record = batch.records.get(i);
+            long id = idBlockAllocator.next(IdBlockAllocator.USERS);
+            users.add(new Object[]{id, record.username(), batch.hashes.get(i).join(), now, now});
+            voters.add(new Object[]{id, record.voterId(), record.nationalId(), record.fullName(),
+                    Date.valueOf(record.dateOfBirth()), record.gender(), record.address(), record.city(),
+                    record.state(), record.zipCode(), record.phoneNumber(), record.email()});
+        }
+
+        ImportCheckpoint before = new ImportCheckpoint(fileSize, job.position.get(), job.imported.get(),
+                job.duplicates.get(), job.rejected.get());
+        ImportCheckpoint.Pending after = new ImportCheckpoint.Pending(
+                users.isEmpty() ? -1 : (Long) users.get(0)[0], batch.endPosition,
+                job.imported.get() + users.size(), job.duplicates.get() + batch.duplicates,
+                job.rejected.get() + batch.rejected);
+
+        if (!users.isEmpty()) {
+            before.withPending(after).save(checkpointPath);
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER, users);
+                jdbcTemplate.batchUpdate(INSERT_VOTER, voters);
+                eventPublisher.publishEvent(VoterCountsChangedEvent.registered(users.size()));
+            });
+        }
+        job.position.set(after.position());
+        job.imported.set(after.imported());
+        job.duplicates.set(after.duplicates());
+        job.rejected.set(after.rejected());
+        job.batches.incrementAndGet();
+        before.withPending(after).settle(true).save(checkpointPath);
+    }
+
+    private TakenKeys loadTakenKeys() {
+        TakenKeys taken = new TakenKeys();
+        jdbcTemplate.query("SELECT username FROM users",
+                (RowCallbackHandler) rs -> taken.usernames.add(TakenKeys.normalize(rs.getString(1))));
+        jdbcTemplate.query("SELECT voter_id, national_id FROM voters", (RowCallbackHandler) rs -> {
+            taken.voterIds.add(TakenKeys.normalize(rs.getString(1)));
+            taken.nationalIds.add(TakenKeys.normalize(rs.getString(2)));
+        });
+        return taken;
+    }
+
+    private void reject(Job job, long lineNumber, String reason) {
+        job.recentRejections.addLast("line " + lineNumber + ": " + reason);
+        if (job.recentRejections.size() > MAX_REJECTIONS_KEPT) {
+            job.recentRejections.pollFirst();
+        }
+    }
+
+    private void finish(Job job, State state, String error) {
+        job.error = error;
+        job.finishedAt = Instant.now();
+        job.state = state;
+    }
+
+    private Path resolve(String fileName) {
+        Path root = Path.of(directory).toAbsolutePath().normalize();
+        Path source = root.resolve(fileName).normalize();
+        if (!source.startsWith(root)) {
+            throw new RuntimeException("Import files must be inside " + directory);
+        }
+        return source;
+    }
+
+    private int hashPoolSize() {
+        return hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,185 @@
+package com.votingsystem.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Streams records from a voter roll file without loading it into memory.
+ * <p>
+ * Column and property names are normalized to lower case letters and digits, so
+ * "voter_id", "voterId" and "Voter ID" are the same field. Blank lines are skipped.
+ * Record positions count every record read, including malformed ones, so a position
+ * saved in a checkpoint identifies the same place in the file on every read.
+ */
+class VoterRollReader implements Closeable {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final VoterRollFormat format;
+    private List<String> header;
+    private long lineNumber;
+
+    VoterRollReader(Path file, VoterRollFormat format) throws IOException {
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        this.format = format;
+        if (format == VoterRollFormat.CSV) {
+            String headerText = nextRecordText();
+            if (headerText == null) {
+                throw new IOException("CSV file has no header row: " + file);
+            }
+            header = splitCsv(headerText).stream().map(VoterRollReader::normalize).toList();
+        }
+    }
+
+    /**
+     * Fields of the next record, or null at the end of the file. A malformed record is
+     * consumed before IllegalArgumentException is thrown, so reading can continue.
+     */
+    Map<String, String> next() throws IOException {
+        String text = nextRecordText();
+        if (text == null) {
+            return null;
+        }
+        return format == VoterRollFormat.CSV ? parseCsv(text) : parseJson(text);
+    }
+
+    /**
+     * Skip records without parsing them; returns how many were skipped
+     */
+    long skip(long records) throws IOException {
+        long skipped = 0;
+        while (skipped < records && nextRecordText() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Line on which the last record read ends
+     */
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextRecordText() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        if (format == VoterRollFormat.NDJSON) {
+            return line;
+        }
+        // A quoted CSV field may contain line breaks
+        StringBuilder text = new StringBuilder(line);
+        while (hasOpenQuote(text)) {
+            String continuation = reader.readLine();
+            if (continuation == null) {
+                break;
+            }
+            lineNumber++;
+            text.append('\n').append(continuation);
+        }
+        return text.toString();
+    }
+
+    private Map<String, String> parseCsv(String text) {
+        List<String> values = splitCsv(text);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    private static Map<String, String> parseJson(String text) {
+        JsonNode node;
+        try {
+            node = JSON.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(field -> {
+            if (!field.getValue().isNull()) {
+                fields.put(normalize(field.getKey()), field.getValue().asText());
+            }
+        });
+        return fields;
+    }
+
+    // RFC 4180: fields may be quoted, and a doubled quote inside a quoted field is a literal quote
+    private static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c != '\r') {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static boolean hasOpenQuote(CharSequence text) {
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.votingsystem.importer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * One validated voter from a roll file. Field lengths match the users and voters
+ * columns, so a batch is not failed by a single oversized value.
+ */
+record VoterRollRecord(String username,
+                       String password,
+                       String voterId,
+                       String nationalId,
+                       String fullName,
+                       LocalDate dateOfBirth,
+                       String gender,
+                       String address,
+                       String city,
+                       String state,
+                       String zipCode,
+                       String phoneNumber,
+                       String email) {
+
+    /**
+     * Build a record from fields keyed by normalized column name (see VoterRollReader).
+     * The username defaults to the voter id. Throws IllegalArgumentException naming the bad field.
+     */
+    static VoterRollRecord from(Map<String, String> fields) {
+        String voterId = required(fields, "voterid", 20);
+        String username = optional(fields, "username", 50);
+        String dateOfBirth = required(fields, "dateofbirth", 10);
+        LocalDate parsedDateOfBirth;
+        try {
+            parsedDateOfBirth = LocalDate.parse(dateOfBirth);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("dateOfBirth is not an ISO date: " + dateOfBirth);
+        }
+
+        return new VoterRollRecord(
+                username != null ? username : voterId,
+                required(fields, "password", 72),
+                voterId,
+                required(fields, "nationalid", 20),
+                required(fields, "fullname", 100),
+                parsedDateOfBirth,
+                required(fields, "gender", 10),
+                required(fields, "address", 200),
+                optional(fields, "city", 100),
+                optional(fields, "state", 50),
+                optional(fields, "zipcode", 10),
+                optional(fields, "phonenumber", 15),
+                optional(fields, "email", 100));
+    }
+
+    private static String required(Map<String, String> fields, String name, int maxLength) {
+        String value = optional(fields, name, maxLength);
+        if (value == null) {
+            throw new IllegalArgumentException("missing " + name);
+        }
+        return value;
+    }
+
+    private static String optional(Map<String, String> fields, String name, int maxLength) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(name + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+}
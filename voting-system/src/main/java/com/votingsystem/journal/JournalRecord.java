@@ -0,0 +1,82 @@
+package com.votingsystem.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * One accepted ballot as written to the vote journal.
+ * <p>
+ * On disk: int payload length, int CRC32 of the payload, then the payload.
+ * A zero length marks the end of the written part of a segment.
+ */
+public record JournalRecord(long sequence,
+                            long voterId,
+                            long electionId,
+                            long candidateId,
+                            long votedAtEpochMillis,
+                            String voteHash,
+                            String ipAddress,
+                            String userAgent,
+                            String sessionId) {
+
+    static final int HEADER_BYTES = 8;
+
+    byte[] encodePayload() {
+        byte[] hash = bytes(voteHash);
+        byte[] ip = bytes(ipAddress);
+        byte[] agent = bytes(userAgent);
+        byte[] session = bytes(sessionId);
+
+        ByteBuffer buffer = ByteBuffer.allocate(5 * Long.BYTES + 4 * Short.BYTES
+                + hash.length + ip.length + agent.length + session.length);
+        buffer.putLong(sequence);
+        buffer.putLong(voterId);
+        buffer.putLong(electionId);
+        buffer.putLong(candidateId);
+        buffer.putLong(votedAtEpochMillis);
+        putString(buffer, hash);
+        putString(buffer, ip);
+        putString(buffer, agent);
+        putString(buffer, session);
+        return buffer.array();
+    }
+
+    static JournalRecord decodePayload(ByteBuffer payload) {
+        return new JournalRecord(
+                payload.getLong(),
+                payload.getLong(),
+                payload.getLong(),
+                payload.getLong(),
+                payload.getLong(),
+                getString(payload),
+                getString(payload),
+                getString(payload),
+                getString(payload));
+    }
+
+    static int checksum(byte[] payload, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] bytes(String value) {
+        byte[] encoded = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal field too long: " + encoded.length + " bytes");
+        }
+        return encoded;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        buffer.putShort((short) value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
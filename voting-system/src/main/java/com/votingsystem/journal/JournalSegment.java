@@ -0,0 +1,120 @@
+package com.votingsystem.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A fixed-size, memory-mapped vote journal segment.
+ * <p>
+ * Layout: int magic, int version, long first sequence, then records back to back.
+ */
+class JournalSegment {
+
+    static final int MAGIC = 0x564A524E; // "VJRN"
+    static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 16;
+
+    private final Path path;
+    private final long firstSequence;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(Path path, long firstSequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path path, long firstSequence, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(firstSequence);
+            return new JournalSegment(path, firstSequence, buffer);
+        }
+    }
+
+    /**
+     * Append one encoded record; returns false when the segment is full.
+     */
+    boolean tryAppend(byte[] payload) {
+        // Keep room for the zero length that terminates the segment
+        if (buffer.remaining() < JournalRecord.HEADER_BYTES + payload.length + Integer.BYTES) {
+            return false;
+        }
+        buffer.putInt(payload.length);
+        buffer.putInt(JournalRecord.checksum(payload, 0, payload.length));
+        buffer.put(payload);
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * Read every intact record of a segment file in order. Reading stops at the end
+     * marker or at the first record whose length or checksum is invalid (a torn write).
+     */
+    static ScanResult scan(Path path, Consumer<JournalRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < FILE_HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a vote journal segment: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported journal version " + version + ": " + path);
+            }
+            long firstSequence = buffer.getLong();
+
+            long records = 0;
+            long lastSequence = firstSequence - 1;
+            boolean corrupt = false;
+
+            while (buffer.remaining() >= JournalRecord.HEADER_BYTES) {
+                int length = buffer.getInt();
+                if (length == 0) {
+                    break;
+                }
+                int checksum = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    corrupt = true;
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                if (JournalRecord.checksum(payload, 0, length) != checksum) {
+                    corrupt = true;
+                    break;
+                }
+
+                JournalRecord record = JournalRecord.decodePayload(ByteBuffer.wrap(payload));
+                lastSequence = record.sequence();
+                records++;
+                consumer.accept(record);
+            }
+
+            return new ScanResult(firstSequence, lastSequence, records, corrupt);
+        }
+    }
+
+    record ScanResult(long firstSequence, long lastSequence, long records, boolean corrupt) {
+    }
+}
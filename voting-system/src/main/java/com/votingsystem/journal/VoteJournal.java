@@ -0,0 +1,458 @@
+package com.votingsystem.journal;
+
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.model.Vote;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import com.votingsystem.repository.VoterRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, memory-mapped write-ahead journal of accepted ballots.
+ * <p>
+ * Ballots are appended before their database commit. The checkpoint file records
+ * the highest sequence below which every ballot is known to be resolved; anything
+ * after it is replayed into the votes table on startup, before the web server starts,
+ * and votes are refused until that replay has succeeded. Once every record of a segment
+ * is resolved and a newer segment exists, it is moved to the archive directory, where
+ * the journal doubles as a sequential copy of the ballot stream, or deleted when no
+ * archive directory is configured.
+ */
+@Component
+public class VoteJournal implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int REPLAY_CHUNK_SIZE = 500;
+
+    // Well before the embedded web server, which starts in one of the last phases
+    private static final int REPLAY_PHASE = 0;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${voting.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.journal.directory:data/vote-journal}")
+    private String directory;
+
+    @Value("${voting.journal.segment-size-bytes:67108864}")
+    private int segmentSize;
+
+    @Value("${voting.journal.archive-directory:}")
+    private String archiveDirectory;
+
+    private Path journalDir;
+    private Path archiveDir;
+    private JournalSegment current;
+    private long nextSequence;
+    private long recoveredSequence;
+    private long committedSequence;
+    private boolean recoveryPending;
+    private volatile boolean started;
+    // Keeps the start-up replay, the retry job and the CLI from replaying at the same time
+    private final Object replayLock = new Object();
+    private final NavigableSet<Long> unresolved = new TreeSet<>();
+    // First sequence of every segment still in the journal directory
+    private final NavigableSet<Long> segmentStarts = new TreeSet<>();
+
+    private long appended;
+    private long segmentsRolled;
+    private long segmentsRetired;
+    private long replayed;
+    private long replayConflicts;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        journalDir = Path.of(directory);
+        Files.createDirectories(journalDir);
+        if (!archiveDirectory.isBlank()) {
+            archiveDir = Path.of(archiveDirectory);
+            Files.createDirectories(archiveDir);
+        }
+
+        committedSequence = readCheckpoint();
+        long lastSequence = committedSequence;
+
+        List<Path> segments = listSegments(journalDir);
+        for (Path segment : segments) {
+            segmentStarts.add(firstSequenceOf(segment));
+        }
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            lastSequence = Math.max(lastSequence, JournalSegment.scan(last, record -> { }).lastSequence());
+        }
+        // Always start a fresh segment after a restart; only earlier records are replayed
+        recoveredSequence = lastSequence;
+        recoveryPending = recoveredSequence > committedSequence;
+        nextSequence = lastSequence + 1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether ballots journaled by an earlier run are still waiting to be replayed.
+     * Votes are refused meanwhile, so a voter cannot vote again over an acknowledged ballot.
+     */
+    public synchronized boolean isRecovering() {
+        return enabled && recoveryPending;
+    }
+
+    /**
+     * Append a ballot and return its journal sequence. Not yet durable until force().
+     */
+    public synchronized long append(Vote vote) {
+        long sequence = nextSequence;
+        byte[] payload = new JournalRecord(
+                sequence,
+                vote.getVoter().getId(),
+                vote.getElection().getId(),
+                vote.getCandidate().getId(),
+                vote.getVotedAt().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                vote.getVoteHash(),
+                vote.getIpAddress(),
+                vote.getUserAgent(),
+                vote.getSessionId()).encodePayload();
+
+        if (current == null || !current.tryAppend(payload)) {
+            roll(sequence);
+            if (!current.tryAppend(payload)) {
+                throw new IllegalStateException("Journal record larger than segment size");
+            }
+        }
+
+        nextSequence++;
+        appended++;
+        unresolved.add(sequence);
+        return sequence;
+    }
+
+    /**
+     * Flush appended records to disk
+     */
+    public void force() {
+        JournalSegment segment;
+        synchronized (this) {
+            segment = current;
+        }
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Mark ballots as settled in the database (committed or rejected as duplicates)
+     * and advance the checkpoint past every settled prefix.
+     */
+    public synchronized void resolve(Collection<Long> sequences) {
+        unresolved.removeAll(sequences);
+        advanceCheckpoint();
+    }
+
+    @Override
+    public void start() {
+        started = true;
+        tryReplay();
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    @Override
+    public int getPhase() {
+        return REPLAY_PHASE;
+    }
+
+    /**
+     * Retry a start-up replay that failed, until it succeeds
+     */
+    @Scheduled(fixedDelayString = "${voting.journal.replay-retry-ms:30000}",
+               initialDelayString = "${voting.journal.replay-retry-ms:30000}")
+    public void retryReplay() {
+        if (isRecovering()) {
+            tryReplay();
+        }
+    }
+
+    private void tryReplay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int count = replayPending();
+            if (count > 0) {
+                logger.info("Replayed {} journaled votes into the votes table", count);
+            }
+        } catch (RuntimeException | IOException e) {
+            logger.error("Vote journal replay failed; votes are refused until a retry succeeds: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Insert every ballot journaled before this start-up and after the checkpoint
+     * that is not yet in the votes table
+     */
+    public int replayPending() throws IOException {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (replayLock) {
+            return replayLocked();
+        }
+    }
+
+    private int replayLocked() throws IOException {
+        long checkpoint;
+        long recovered;
+        synchronized (this) {
+            checkpoint = committedSequence;
+            recovered = recoveredSequence;
+        }
+
+        List<JournalRecord> pending = new ArrayList<>();
+        List<Path> segments = listSegments(journalDir);
+        for (int i = 0; i < segments.size(); i++) {
+            // A segment ends right before the next one starts
+            if (i + 1 < segments.size() && firstSequenceOf(segments.get(i + 1)) - 1 <= checkpoint) {
+                continue;
+            }
+            JournalSegment.ScanResult result = JournalSegment.scan(segments.get(i), record -> {
+                if (record.sequence() > checkpoint && record.sequence() <= recovered) {
+                    pending.add(record);
+                }
+            });
+            if (result.corrupt()) {
+                logger.warn("Journal segment {} has a torn tail after sequence {}", segments.get(i), result.lastSequence());
+            }
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int inserted = 0;
+
+        for (int from = 0; from < pending.size(); from += REPLAY_CHUNK_SIZE) {
+            List<JournalRecord> chunk = pending.subList(from, Math.min(from + REPLAY_CHUNK_SIZE, pending.size()));
+            List<Vote> saved = transactionTemplate.execute(status -> insertMissing(chunk));
+
+            for (Vote vote : saved) {
+                eventPublisher.publishEvent(new VoteCommittedEvent(vote.getId(), vote.getVoter().getId(),
+                        vote.getElection().getId(), vote.getCandidate().getId(), vote.getVotedAt()));
+            }
+            inserted += saved.size();
+        }
+
+        synchronized (this) {
+            replayed += inserted;
+            recoveryPending = false;
+            advanceCheckpoint();
+        }
+        return inserted;
+    }
+
+    private List<Vote> insertMissing(List<JournalRecord> records) {
+        List<Vote> saved = new ArrayList<>();
+        for (JournalRecord record : records) {
+            Vote existing = voteRepository.findByVoterIdAndElectionId(record.voterId(), record.electionId())
+                    .orElse(null);
+            if (existing != null) {
+                if (!existing.getCandidate().getId().equals(record.candidateId())
+                        || !Objects.equals(existing.getVoteHash(), record.voteHash())) {
+                    // The acknowledged ballot lost to another row for the same voter; keep both visible
+                    logger.error("Journal replay conflict for voter {} in election {}: journaled sequence {} " +
+                                    "(candidate {}, hash {}) but stored vote {} (candidate {}, hash {})",
+                            record.voterId(), record.electionId(), record.sequence(), record.candidateId(),
+                            record.voteHash(), existing.getId(), existing.getCandidate().getId(),
+                            existing.getVoteHash());
+                    synchronized (this) {
+                        replayConflicts++;
+                    }
+                }
+                continue;
+            }
+
+            Vote vote = new Vote();
+            vote.setVoter(voterRepository.getReferenceById(record.voterId()));
+            vote.setElection(electionRepository.getReferenceById(record.electionId()));
+            vote.setCandidate(candidateRepository.getReferenceById(record.candidateId()));
+            vote.setVotedAt(LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(record.votedAtEpochMillis(), 1000),
+                    (int) Math.floorMod(record.votedAtEpochMillis(), 1000) * 1_000_000,
+                    ZoneOffset.UTC));
+            vote.setVoteHash(record.voteHash());
+            vote.setIpAddress(record.ipAddress());
+            vote.setUserAgent(record.userAgent());
+            vote.setSessionId(record.sessionId());
+
+            saved.add(voteRepository.save(vote));
+        }
+        return saved;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("directory", directory);
+        metrics.put("nextSequence", nextSequence);
+        metrics.put("committedSequence", committedSequence);
+        metrics.put("unresolved", unresolved.size());
+        metrics.put("appended", appended);
+        metrics.put("segments", segmentStarts.size());
+        metrics.put("segmentsRolled", segmentsRolled);
+        metrics.put("segmentsRetired", segmentsRetired);
+        metrics.put("recovering", enabled && recoveryPending);
+        metrics.put("replayed", replayed);
+        metrics.put("replayConflicts", replayConflicts);
+        return metrics;
+    }
+
+    private void advanceCheckpoint() {
+        // Records left by a previous run pin the checkpoint until they are replayed
+        if (recoveryPending) {
+            return;
+        }
+        long checkpoint = unresolved.isEmpty() ? nextSequence - 1 : unresolved.first() - 1;
+        if (checkpoint > committedSequence) {
+            committedSequence = checkpoint;
+            writeCheckpoint(checkpoint);
+            retireResolvedSegments();
+        }
+    }
+
+    /**
+     * Archive or delete segments that end at or before the checkpoint. The newest
+     * segment is never retired, so the current one is always kept.
+     */
+    private void retireResolvedSegments() {
+        while (segmentStarts.size() > 1) {
+            long first = segmentStarts.first();
+            long next = segmentStarts.higher(first);
+            // A segment ends right before the next one starts
+            if (next - 1 > committedSequence) {
+                return;
+            }
+            Path segment = journalDir.resolve(segmentName(first));
+            try {
+                if (archiveDir != null) {
+                    Files.move(segment, archiveDir.resolve(segment.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.deleteIfExists(segment);
+                }
+            } catch (IOException e) {
+                // Left in place; replay skips it by the checkpoint and the next checkpoint retries
+                logger.warn("Error retiring journal segment {}: {}", segment, e.getMessage());
+                return;
+            }
+            segmentStarts.remove(first);
+            segmentsRetired++;
+        }
+    }
+
+    private void roll(long firstSequence) {
+        if (current != null) {
+            current.force();
+        }
+        try {
+            current = JournalSegment.create(journalDir.resolve(segmentName(firstSequence)), firstSequence, segmentSize);
+            segmentStarts.add(firstSequence);
+            segmentsRolled++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creating journal segment", e);
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = journalDir.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim());
+    }
+
+    private void writeCheckpoint(long sequence) {
+        try {
+            Path temp = journalDir.resolve(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(temp, Long.toString(sequence), StandardCharsets.UTF_8);
+            Files.move(temp, journalDir.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Replay is idempotent, so a stale checkpoint only costs extra existence checks
+            logger.warn("Error writing journal checkpoint: {}", e.getMessage());
+        }
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static List<Path> listSegments(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.votingsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Election result snapshot entity - final per-candidate tally frozen when an election closes.
+ * Names are copied so the frozen results do not change with later candidate edits.
+ */
+@Entity
+@Table(name = "election_result_snapshots", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"election_id", "candidate_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionResultSnapshot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "election_id", nullable = false)
+    private Long electionId;
+    
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;
+    
+    @Column(nullable = false, length = 100)
+    private String candidateName;
+    
+    @Column(nullable = false, length = 100)
+    private String partyName;
+    
+    @Column(nullable = false)
+    private Long voteCount;
+    
+    @Column(nullable = false)
+    private Long totalVotes;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime frozenAt;
+}
@@ -1,33 +1,47 @@
-package com.votingsystem.repository;
-
-import com.votingsystem.model.AuditLog;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-@Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
-    
-    List<AuditLog> findByUserId(Long userId);
-    
-    List<AuditLog> findByActionType(AuditLog.ActionType actionType);
-    
-    List<AuditLog> findBySeverity(AuditLog.Severity severity);
-    
-    @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :start AND :end ORDER BY a.timestamp DESC")
-    List<AuditLog> findByTimestampBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-    
-    @Query("SELECT a FROM AuditLog a WHERE a.severity IN ('ERROR', 'CRITICAL') ORDER BY a.timestamp DESC")
-    List<AuditLog> findCriticalLogs();
-    
-    Page<AuditLog> findByOrderByTimestampDesc(Pageable pageable);
-    
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.actionType = 'SUSPICIOUS_ACTIVITY'")
-    Long countSuspiciousActivities();
-}
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.AuditLogResponse;
+import com.votingsystem.model.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogRepositoryCustom {
+    
+    List<AuditLog> findByUserId(Long userId);
+    
+    List<AuditLog> findByActionType(AuditLog.ActionType actionType);
+    
+    List<AuditLog> findBySeverity(AuditLog.Severity severity);
+    
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :start AND :end ORDER BY a.timestamp DESC")
+    List<AuditLog> findByTimestampBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @Query("SELECT a FROM AuditLog a WHERE a.severity IN ('ERROR', 'CRITICAL') ORDER BY a.timestamp DESC")
+    List<AuditLog> findCriticalLogs();
+    
+    Page<AuditLog> findByOrderByTimestampDesc(Pageable pageable);
+    
+    @Query(value = "SELECT new com.votingsystem.dto.AuditLogResponse(" +
+           "a.id, u.id, u.username, a.actionType, a.action, a.details, a.ipAddress, a.userAgent, " +
+           "a.severity, a.success, a.errorMessage, a.timestamp) " +
+           "FROM AuditLog a LEFT JOIN a.user u ORDER BY a.timestamp DESC",
+           countQuery = "SELECT COUNT(a) FROM AuditLog a")
+    Page<AuditLogResponse> findRecentResponses(Pageable pageable);
+    
+    @Query("SELECT new com.votingsystem.dto.AuditLogResponse(" +
+           "a.id, u.id, u.username, a.actionType, a.action, a.details, a.ipAddress, a.userAgent, " +
+           "a.severity, a.success, a.errorMessage, a.timestamp) " +
+           "FROM AuditLog a LEFT JOIN a.user u WHERE a.severity IN ('ERROR', 'CRITICAL') ORDER BY a.timestamp DESC")
+    List<AuditLogResponse> findCriticalResponses();
+    
+    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.actionType = 'SUSPICIOUS_ACTIVITY'")
+    Long countSuspiciousActivities();
+}
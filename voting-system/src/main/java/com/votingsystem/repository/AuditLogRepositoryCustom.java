@@ -0,0 +1,15 @@
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.AuditLogCursor;
+import com.votingsystem.dto.AuditLogFilter;
+import com.votingsystem.model.AuditLog;
+
+import java.util.List;
+
+public interface AuditLogRepositoryCustom {
+    
+    /**
+     * Entries strictly after the cursor in (timestamp DESC, id DESC) order, without OFFSET or COUNT
+     */
+    List<AuditLog> findPageAfter(AuditLogFilter filter, AuditLogCursor cursor, int limit);
+}
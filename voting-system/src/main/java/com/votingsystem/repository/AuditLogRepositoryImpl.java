@@ -0,0 +1,65 @@
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.AuditLogCursor;
+import com.votingsystem.dto.AuditLogFilter;
+import com.votingsystem.model.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset queries for the audit log. Each filter combination is served by one of the
+ * (column, timestamp, id) indexes on audit_logs.
+ */
+public class AuditLogRepositoryImpl implements AuditLogRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<AuditLog> findPageAfter(AuditLogFilter filter, AuditLogCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> log = query.from(AuditLog.class);
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.actionType() != null) {
+            predicates.add(cb.equal(log.get("actionType"), filter.actionType()));
+        }
+        if (filter.severity() != null) {
+            predicates.add(cb.equal(log.get("severity"), filter.severity()));
+        }
+        if (filter.userId() != null) {
+            predicates.add(cb.equal(log.get("user").get("id"), filter.userId()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(log.<LocalDateTime>get("timestamp"), filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(log.<LocalDateTime>get("timestamp"), filter.to()));
+        }
+        if (cursor != null) {
+            // (timestamp, id) < (cursor.timestamp, cursor.id)
+            predicates.add(cb.or(
+                    cb.lessThan(log.<LocalDateTime>get("timestamp"), cursor.timestamp()),
+                    cb.and(
+                            cb.equal(log.get("timestamp"), cursor.timestamp()),
+                            cb.lessThan(log.<Long>get("id"), cursor.id()))));
+        }
+        
+        query.select(log)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(log.get("timestamp")), cb.desc(log.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
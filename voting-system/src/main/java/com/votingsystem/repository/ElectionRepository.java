@@ -1,29 +1,39 @@
-package com.votingsystem.repository;
-
-import com.votingsystem.model.Election;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-@Repository
-public interface ElectionRepository extends JpaRepository<Election, Long> {
-    
-    List<Election> findByStatus(Election.ElectionStatus status);
-    
-    @Query("SELECT e FROM Election e WHERE e.status = 'ACTIVE' AND e.startTime <= :now AND e.endTime > :now")
-    List<Election> findActiveElections(LocalDateTime now);
-    
-    @Query("SELECT e FROM Election e WHERE e.endTime < :now AND e.status = 'ACTIVE'")
-    List<Election> findExpiredActiveElections(LocalDateTime now);
-    
-    List<Election> findByType(Election.ElectionType type);
-    
-    @Query("SELECT COUNT(e) FROM Election e WHERE e.status = 'ACTIVE'")
-    Long countActiveElections();
-    
-    @Query("SELECT e FROM Election e WHERE e.resultsPublished = true ORDER BY e.endTime DESC")
-    List<Election> findElectionsWithPublishedResults();
-}
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.ElectionResponse;
+import com.votingsystem.model.Election;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ElectionRepository extends JpaRepository<Election, Long> {
+    
+    List<Election> findByStatus(Election.ElectionStatus status);
+    
+    @Query("SELECT e FROM Election e WHERE e.status = 'ACTIVE' AND e.startTime <= :now AND e.endTime > :now")
+    List<Election> findActiveElections(LocalDateTime now);
+    
+    @Query("SELECT e FROM Election e WHERE e.endTime < :now AND e.status = 'ACTIVE'")
+    List<Election> findExpiredActiveElections(LocalDateTime now);
+    
+    @Query("SELECT e FROM Election e WHERE e.status = 'SCHEDULED' AND e.startTime <= :now AND e.endTime > :now")
+    List<Election> findOverdueScheduledElections(LocalDateTime now);
+    
+    List<Election> findByType(Election.ElectionType type);
+    
+    @Query("SELECT COUNT(e) FROM Election e WHERE e.status = 'ACTIVE'")
+    Long countActiveElections();
+    
+    @Query("SELECT e FROM Election e WHERE e.resultsPublished = true ORDER BY e.endTime DESC")
+    List<Election> findElectionsWithPublishedResults();
+    
+    @Query("SELECT new com.votingsystem.dto.ElectionResponse(" +
+           "e.id, e.name, e.description, e.type, e.startTime, e.endTime, e.status, " +
+           "e.resultsPublished, e.resultsPublishedAt, e.createdAt) " +
+           "FROM Election e ORDER BY e.id")
+    List<ElectionResponse> findAllResponses();
+}
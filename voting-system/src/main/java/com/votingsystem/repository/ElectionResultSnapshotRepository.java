@@ -0,0 +1,22 @@
+package com.votingsystem.repository;
+
+import com.votingsystem.model.ElectionResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ElectionResultSnapshotRepository extends JpaRepository<ElectionResultSnapshot, Long> {
+    
+    List<ElectionResultSnapshot> findByElectionIdOrderByVoteCountDesc(Long electionId);
+    
+    boolean existsByElectionId(Long electionId);
+    
+    @Modifying
+    @Query("DELETE FROM ElectionResultSnapshot s WHERE s.electionId = :electionId")
+    void deleteByElectionId(@Param("electionId") Long electionId);
+}
@@ -1,15 +1,25 @@
-package com.votingsystem.repository;
-
-import com.votingsystem.model.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    
-    Optional<User> findByUsername(String username);
-    
-    boolean existsByUsername(String username);
-}
+package com.votingsystem.repository;
+
+import com.votingsystem.model.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+    
+    Optional<User> findByUsername(String username);
+    
+    boolean existsByUsername(String username);
+    
+    /**
+     * Lock without loading the user, so a concurrent login cannot overwrite it. Returns 0 if already locked.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.accountLocked = true WHERE u.id = :id AND u.accountLocked = false")
+    int lockAccount(@Param("id") Long id);
+}
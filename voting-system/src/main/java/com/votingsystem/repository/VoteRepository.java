@@ -1,35 +1,49 @@
-package com.votingsystem.repository;
-
-import com.votingsystem.model.Vote;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-
-@Repository
-public interface VoteRepository extends JpaRepository<Vote, Long> {
-    
-    Optional<Vote> findByVoterIdAndElectionId(Long voterId, Long electionId);
-    
-    boolean existsByVoterIdAndElectionId(Long voterId, Long electionId);
-    
-    List<Vote> findByElectionId(Long electionId);
-    
-    @Query("SELECT COUNT(v) FROM Vote v WHERE v.election.id = :electionId")
-    Long countVotesByElection(@Param("electionId") Long electionId);
-    
-    @Query("SELECT COUNT(v) FROM Vote v WHERE v.candidate.id = :candidateId")
-    Long countVotesByCandidate(@Param("candidateId") Long candidateId);
-    
-    @Query("SELECT v.candidate.id, COUNT(v) FROM Vote v WHERE v.election.id = :electionId GROUP BY v.candidate.id")
-    List<Object[]> countVotesByCandidateForElection(@Param("electionId") Long electionId);
-    
-    @Query("SELECT COUNT(v) FROM Vote v WHERE v.votedAt BETWEEN :start AND :end")
-    Long countVotesBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-    
-    List<Vote> findByVoterId(Long voterId);
-}
+package com.votingsystem.repository;
+
+import com.votingsystem.model.Vote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VoteRepository extends JpaRepository<Vote, Long> {
+    
+    Optional<Vote> findByVoterIdAndElectionId(Long voterId, Long electionId);
+    
+    boolean existsByVoterIdAndElectionId(Long voterId, Long electionId);
+    
+    @Query("SELECT v.voter.id FROM Vote v WHERE v.election.id = :electionId")
+    List<Long> findVoterIdsByElectionId(@Param("electionId") Long electionId);
+    
+    List<Vote> findByElectionId(Long electionId);
+    
+    @Query("SELECT COUNT(v) FROM Vote v WHERE v.election.id = :electionId")
+    Long countVotesByElection(@Param("electionId") Long electionId);
+    
+    @Query("SELECT v.id FROM Vote v WHERE v.election.id = :electionId AND v.id IN :ids")
+    List<Long> findIdsAmong(@Param("electionId") Long electionId, @Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT COUNT(v) FROM Vote v WHERE v.candidate.id = :candidateId")
+    Long countVotesByCandidate(@Param("candidateId") Long candidateId);
+    
+    @Query("SELECT v.candidate.id, COUNT(v) FROM Vote v WHERE v.election.id = :electionId GROUP BY v.candidate.id")
+    List<Object[]> countVotesByCandidateForElection(@Param("electionId") Long electionId);
+    
+    @Query("SELECT COUNT(v) FROM Vote v WHERE v.votedAt BETWEEN :start AND :end")
+    Long countVotesBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    /**
+     * Minute since the epoch (wall clock) and vote count, for each minute of an election with votes
+     */
+    @Query(value = "SELECT TIMESTAMPDIFF(MINUTE, '1970-01-01', v.voted_at) AS minute, COUNT(*) FROM votes v " +
+                   "WHERE v.election_id = :electionId GROUP BY minute ORDER BY minute", nativeQuery = true)
+    List<Object[]> countVotesPerMinuteForElection(@Param("electionId") Long electionId);
+    
+    List<Vote> findByVoterId(Long voterId);
+}
@@ -1,33 +1,86 @@
-package com.votingsystem.repository;
-
-import com.votingsystem.model.Voter;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-import java.util.Optional;
-
-@Repository
-public interface VoterRepository extends JpaRepository<Voter, Long> {
-    
-    Optional<Voter> findByVoterId(String voterId);
-    
-    Optional<Voter> findByNationalId(String nationalId);
-    
-    Optional<Voter> findByUsername(String username);
-    
-    boolean existsByVoterId(String voterId);
-    
-    boolean existsByNationalId(String nationalId);
-    
-    List<Voter> findByStatus(Voter.VoterStatus status);
-    
-    List<Voter> findByVerified(Boolean verified);
-    
-    @Query("SELECT COUNT(v) FROM Voter v WHERE v.verified = true")
-    Long countVerifiedVoters();
-    
-    @Query("SELECT COUNT(v) FROM Voter v WHERE v.status = 'PENDING'")
-    Long countPendingVoters();
-}
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.VoteEligibility;
+import com.votingsystem.dto.VoterResponse;
+import com.votingsystem.model.Voter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface VoterRepository extends JpaRepository<Voter, Long>, VoterRepositoryCustom {
+    
+    Optional<Voter> findByVoterId(String voterId);
+    
+    Optional<Voter> findByNationalId(String nationalId);
+    
+    Optional<Voter> findByUsername(String username);
+    
+    boolean existsByVoterId(String voterId);
+    
+    boolean existsByNationalId(String nationalId);
+    
+    List<Voter> findByStatus(Voter.VoterStatus status);
+    
+    List<Voter> findByVerified(Boolean verified);
+    
+    @Query("SELECT COUNT(v) FROM Voter v WHERE v.verified = true")
+    Long countVerifiedVoters();
+    
+    @Query("SELECT COUNT(v) FROM Voter v WHERE v.status = 'PENDING'")
+    Long countPendingVoters();
+    
+    @Query("SELECT new com.votingsystem.dto.VoteEligibility(" +
+           "v.id, v.verified, v.eligible, " +
+           "(SELECT COUNT(x) FROM Vote x WHERE x.voter.id = v.id AND x.election.id = :electionId)) " +
+           "FROM Voter v " +
+           "WHERE v.username = :username")
+    Optional<VoteEligibility> findVoteEligibility(@Param("username") String username,
+                                                  @Param("electionId") Long electionId);
+    
+    @Query("SELECT new com.votingsystem.dto.VoterResponse(" +
+           "v.id, v.username, v.voterId, v.nationalId, v.fullName, v.dateOfBirth, v.gender, v.address, " +
+           "v.city, v.state, v.zipCode, v.phoneNumber, v.email, v.verified, v.eligible, v.status, " +
+           "v.active, v.accountLocked, v.lastLoginAt, v.createdAt) " +
+           "FROM Voter v ORDER BY v.id")
+    List<VoterResponse> findAllResponses();
+    
+    @Query("SELECT new com.votingsystem.dto.VoterResponse(" +
+           "v.id, v.username, v.voterId, v.nationalId, v.fullName, v.dateOfBirth, v.gender, v.address, " +
+           "v.city, v.state, v.zipCode, v.phoneNumber, v.email, v.verified, v.eligible, v.status, " +
+           "v.active, v.accountLocked, v.lastLoginAt, v.createdAt) " +
+           "FROM Voter v WHERE v.status = :status ORDER BY v.id")
+    List<VoterResponse> findResponsesByStatus(@Param("status") Voter.VoterStatus status);
+    
+    @Query(value = "SELECT COUNT(*) FROM voters WHERE user_id IN (:ids) AND status = 'PENDING'",
+           nativeQuery = true)
+    long countPendingAmong(@Param("ids") Collection<Long> ids);
+    
+    @Query(value = "SELECT COUNT(*) FROM voters WHERE user_id IN (:ids) AND verified = FALSE",
+           nativeQuery = true)
+    long countUnverifiedAmong(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Verify the listed voters in one statement; returns how many were not verified already
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE voters SET verified = TRUE, status = 'VERIFIED' " +
+                   "WHERE user_id IN (:ids) AND (verified = FALSE OR status <> 'VERIFIED')",
+           nativeQuery = true)
+    int verifyAll(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Suspend the listed voters in one statement; returns how many were not suspended already
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE voters SET status = 'SUSPENDED', eligible = FALSE " +
+                   "WHERE user_id IN (:ids) AND (status <> 'SUSPENDED' OR eligible = TRUE)",
+           nativeQuery = true)
+    int suspendAll(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,19 @@
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.VoterFilter;
+import com.votingsystem.dto.VoterResponse;
+
+import java.util.List;
+
+public interface VoterRepositoryCustom {
+    
+    /**
+     * Voters with id greater than afterId in id order, without OFFSET or COUNT
+     */
+    List<VoterResponse> findPageAfter(VoterFilter filter, Long afterId, int limit);
+    
+    /**
+     * Ids only, in the same order, for chunked bulk updates
+     */
+    List<Long> findIdsAfter(VoterFilter filter, Long afterId, int limit);
+}
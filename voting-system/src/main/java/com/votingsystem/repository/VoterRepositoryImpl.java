@@ -0,0 +1,101 @@
+package com.votingsystem.repository;
+
+import com.votingsystem.dto.VoterFilter;
+import com.votingsystem.dto.VoterResponse;
+import com.votingsystem.model.Voter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset queries for the voter listing and bulk actions. Each voters filter column has
+ * a (column, user_id) index, so a filtered page is a range scan that stops after limit
+ * rows; the registration range is applied to users.created_at through the join.
+ */
+public class VoterRepositoryImpl implements VoterRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<VoterResponse> findPageAfter(VoterFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VoterResponse> query = cb.createQuery(VoterResponse.class);
+        Root<Voter> voter = query.from(Voter.class);
+        
+        // Same columns as VoterRepository.findAllResponses
+        query.select(cb.construct(VoterResponse.class,
+                        voter.get("id"), voter.get("username"), voter.get("voterId"), voter.get("nationalId"),
+                        voter.get("fullName"), voter.get("dateOfBirth"), voter.get("gender"), voter.get("address"),
+                        voter.get("city"), voter.get("state"), voter.get("zipCode"), voter.get("phoneNumber"),
+                        voter.get("email"), voter.get("verified"), voter.get("eligible"), voter.get("status"),
+                        voter.get("active"), voter.get("accountLocked"), voter.get("lastLoginAt"),
+                        voter.get("createdAt")))
+                .where(predicates(cb, voter, filter, afterId))
+                .orderBy(cb.asc(voter.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    @Override
+    public List<Long> findIdsAfter(VoterFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Voter> voter = query.from(Voter.class);
+        
+        query.select(voter.<Long>get("id"))
+                .where(predicates(cb, voter, filter, afterId))
+                .orderBy(cb.asc(voter.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Voter> voter, VoterFilter filter, Long afterId) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(voter.get("status"), filter.status()));
+        }
+        if (filter.verified() != null) {
+            predicates.add(cb.equal(voter.get("verified"), filter.verified()));
+        }
+        if (hasText(filter.city())) {
+            predicates.add(cb.equal(voter.get("city"), filter.city().trim()));
+        }
+        if (hasText(filter.state())) {
+            predicates.add(cb.equal(voter.get("state"), filter.state().trim()));
+        }
+        if (hasText(filter.namePrefix())) {
+            predicates.add(cb.like(voter.get("fullName"), escapeLike(filter.namePrefix().trim()) + "%", '\\'));
+        }
+        if (filter.registeredFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(voter.<LocalDateTime>get("createdAt"), filter.registeredFrom()));
+        }
+        if (filter.registeredTo() != null) {
+            predicates.add(cb.lessThan(voter.<LocalDateTime>get("createdAt"), filter.registeredTo()));
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(voter.<Long>get("id"), afterId));
+        }
+        
+        return predicates.toArray(new Predicate[0]);
+    }
+    
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
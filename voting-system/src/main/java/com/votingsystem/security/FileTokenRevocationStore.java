@@ -0,0 +1,92 @@
+package com.votingsystem.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Revocations in a local append-only file, one "tokenId expiresAtMillis" line each.
+ * Compaction rewrites the file with only live entries and swaps it in atomically.
+ */
+@Component
+public class FileTokenRevocationStore implements TokenRevocationStore {
+
+    @Value("${voting.revocation.file:data/revoked-tokens.log}")
+    private String file;
+
+    @Override
+    public synchronized void save(String tokenId, Instant expiresAt) throws IOException {
+        Path path = path();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(line(tokenId, expiresAt).getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Instant> loadActive(Instant now) throws IOException {
+        Map<String, Instant> active = new HashMap<>();
+        Path path = path();
+        if (!Files.exists(path)) {
+            return active;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int space = line.indexOf(' ');
+                if (space <= 0) {
+                    continue;
+                }
+                try {
+                    Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(line.substring(space + 1).trim()));
+                    if (expiresAt.isAfter(now)) {
+                        active.put(line.substring(0, space), expiresAt);
+                    }
+                } catch (NumberFormatException e) {
+                    // A torn last line from a crash mid-append
+                }
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public synchronized void compact(Map<String, Instant> active) throws IOException {
+        Path path = path();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        StringBuilder content = new StringBuilder();
+        active.forEach((tokenId, expiresAt) -> content.append(line(tokenId, expiresAt)));
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path path() throws IOException {
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return path;
+    }
+
+    private static String line(String tokenId, Instant expiresAt) {
+        return tokenId + " " + expiresAt.toEpochMilli() + "\n";
+    }
+}
@@ -1,65 +1,62 @@
-package com.votingsystem.security;
-
-import com.votingsystem.service.AuditLogService;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebSecurityConfigurerAdapter;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-import java.util.Collections;
-
-/**
- * JWT Authentication Filter
- */
-@Component
-public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    
-    @Autowired
-    private JwtTokenUtil jwtTokenUtil;
-    
-    @Autowired
-    private AuditLogService auditLogService;
-    
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, 
-                                    HttpServletResponse response, 
-                                    FilterChain filterChain) throws ServletException, IOException {
-        
-        try {
-            String authHeader = request.getHeader("Authorization");
-            String token = null;
-            String username = null;
-            
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                username = jwtTokenUtil.extractUsername(token);
-            }
-            
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtTokenUtil.validateToken(token, username)) {
-                    String role = jwtTokenUtil.extractRole(token);
-                    
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            username,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-                    );
-                    
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-            }
-        } catch (Exception e) {
-            logger.error("JWT Authentication failed: " + e.getMessage());
-        }
-        
-        filterChain.doFilter(request, response);
-    }
-}
+package com.votingsystem.security;
+
+import com.votingsystem.service.AuditLogService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * JWT Authentication Filter
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+    
+    @Autowired
+    private AuditLogService auditLogService;
+    
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, 
+                                    HttpServletResponse response, 
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        try {
+            String authHeader = request.getHeader("Authorization");
+            
+            if (authHeader != null && authHeader.startsWith("Bearer ")
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // One verification per request; repeat tokens are served from the verified-token cache
+                VerifiedToken verified = jwtTokenUtil.verify(authHeader.substring(7));
+                
+                if (verified != null && !tokenRevocationList.isRevoked(verified.tokenId())) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            verified.username(),
+                            null,
+                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + verified.role()))
+                    );
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("JWT Authentication failed: " + e.getMessage());
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,254 @@
+package com.votingsystem.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login and vote submissions before any token check, password hash or
+ * database work. Logins are limited per client IP and per username, votes per client
+ * IP and per bearer token. Rejected requests get 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String VOTE_PATH = "/api/voter/vote";
+
+    // Login bodies are a username and password; anything larger is rejected before parsing
+    private static final int MAX_LOGIN_BODY_BYTES = 4096;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${voting.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.rate-limit.max-keys:200000}")
+    private long maxKeys;
+
+    @Value("${voting.rate-limit.login.ip.capacity:20}")
+    private int loginIpCapacity;
+
+    @Value("${voting.rate-limit.login.ip.per-minute:10}")
+    private int loginIpPerMinute;
+
+    @Value("${voting.rate-limit.login.user.capacity:5}")
+    private int loginUserCapacity;
+
+    @Value("${voting.rate-limit.login.user.per-minute:5}")
+    private int loginUserPerMinute;
+
+    @Value("${voting.rate-limit.vote.ip.capacity:60}")
+    private int voteIpCapacity;
+
+    @Value("${voting.rate-limit.vote.ip.per-minute:120}")
+    private int voteIpPerMinute;
+
+    @Value("${voting.rate-limit.vote.token.capacity:5}")
+    private int voteTokenCapacity;
+
+    @Value("${voting.rate-limit.vote.token.per-minute:10}")
+    private int voteTokenPerMinute;
+
+    private TokenBucketLimiter loginByIp;
+    private TokenBucketLimiter loginByUser;
+    private TokenBucketLimiter voteByIp;
+    private TokenBucketLimiter voteByToken;
+
+    @PostConstruct
+    public void init() {
+        loginByIp = new TokenBucketLimiter("login.ip", loginIpCapacity, loginIpPerMinute, maxKeys);
+        loginByUser = new TokenBucketLimiter("login.user", loginUserCapacity, loginUserPerMinute, maxKeys);
+        voteByIp = new TokenBucketLimiter("vote.ip", voteIpCapacity, voteIpPerMinute, maxKeys);
+        voteByToken = new TokenBucketLimiter("vote.token", voteTokenCapacity, voteTokenPerMinute, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return !LOGIN_PATH.equals(path) && !VOTE_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+
+        if (LOGIN_PATH.equals(request.getServletPath())) {
+            if (reject(response, loginByIp.tryAcquire(ip))) {
+                return;
+            }
+            // Chunked bodies have no Content-Length, so the cap is enforced while reading
+            CachedBodyRequest cached = CachedBodyRequest.wrap(request);
+            if (cached == null) {
+                writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large.");
+                return;
+            }
+            String username = readUsername(cached.body);
+            if (username != null && reject(response, loginByUser.tryAcquire(username))) {
+                return;
+            }
+            filterChain.doFilter(cached, response);
+            return;
+        }
+
+        if (reject(response, voteByIp.tryAcquire(ip))) {
+            return;
+        }
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            // The signature segment identifies the token without verifying it; a forged token only drains its own bucket
+            String token = authHeader.substring(7);
+            if (reject(response, voteByToken.tryAcquire(token.substring(token.lastIndexOf('.') + 1)))) {
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${voting.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (TokenBucketLimiter limiter : limiters()) {
+            limiter.sweep();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        for (TokenBucketLimiter limiter : limiters()) {
+            metrics.put(limiter.getName(), limiter.getMetrics());
+        }
+        return metrics;
+    }
+
+    private List<TokenBucketLimiter> limiters() {
+        return List.of(loginByIp, loginByUser, voteByIp, voteByToken);
+    }
+
+    private boolean reject(HttpServletResponse response, long waitNanos) throws IOException {
+        if (waitNanos == 0) {
+            return false;
+        }
+        long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        writeError(response, 429, "Too many requests. Please retry later.");
+        return true;
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private String readUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText().toLowerCase() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Request whose small body has been read up front so it can be inspected and still reach the controller
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Read the body up to the cap whatever Content-Length says; null when it is larger
+         */
+        static CachedBodyRequest wrap(HttpServletRequest request) throws IOException {
+            int length = request.getContentLength();
+            if (length > MAX_LOGIN_BODY_BYTES) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_LOGIN_BODY_BYTES + 1);
+            if (body.length > MAX_LOGIN_BODY_BYTES) {
+                return null;
+            }
+            return new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // Everything is already in memory, so it is available and then fully read at once
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.votingsystem.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key token buckets, lock-free.
+ * <p>
+ * Each bucket is a single AtomicLong holding the time at which it will be full
+ * again (the GCRA form of a token bucket), updated with compare-and-set. A bucket
+ * whose refill time has passed holds no information and is removed by sweep().
+ */
+class TokenBucketLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final int perMinute;
+    private final long maxKeys;
+
+    // Nanos between tokens, and how far ahead of now a bucket may be booked (capacity - 1 tokens)
+    private final long interval;
+    private final long tolerance;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    // Metrics
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong untracked = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    TokenBucketLimiter(String name, int capacity, int perMinute, long maxKeys) {
+        this.name = name;
+        this.capacity = Math.max(1, capacity);
+        this.perMinute = Math.max(1, perMinute);
+        this.maxKeys = maxKeys;
+        this.interval = TimeUnit.MINUTES.toNanos(1) / this.perMinute;
+        this.tolerance = interval * (this.capacity - 1);
+    }
+
+    /**
+     * Take one token for the key. Returns 0 if granted, otherwise the nanos until one is available.
+     */
+    long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep();
+                if (buckets.size() >= maxKeys) {
+                    // Fail open rather than throttle unrelated clients while the table is flooded
+                    untracked.incrementAndGet();
+                    allowed.incrementAndGet();
+                    return 0L;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long full = bucket.get();
+            long start = Math.max(full, now);
+            long wait = start - now - tolerance;
+            if (wait > 0) {
+                rejected.incrementAndGet();
+                return wait;
+            }
+            if (bucket.compareAndSet(full, start + interval)) {
+                allowed.incrementAndGet();
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they behave exactly like absent ones
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        evicted.addAndGet(Math.max(0, before - buckets.size()));
+    }
+
+    Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("capacity", capacity);
+        metrics.put("perMinute", perMinute);
+        metrics.put("trackedKeys", buckets.size());
+        metrics.put("allowed", allowed.get());
+        metrics.put("rejected", rejected.get());
+        metrics.put("untracked", untracked.get());
+        metrics.put("evicted", evicted.get());
+        return metrics;
+    }
+
+    String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,122 @@
+package com.votingsystem.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revoked token ids (the jti, or a hash of older tokens issued without one) held
+ * until the tokens would have expired.
+ * <p>
+ * A Bloom filter sits in front of the set, so for the usual token that was never
+ * revoked the check is a few bit probes with no map lookup and no I/O. Revocations
+ * are persisted through the TokenRevocationStore before they take effect, and a
+ * periodic compaction drops expired ids and rebuilds the filter.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    @Autowired
+    private TokenRevocationStore store;
+
+    @Value("${voting.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${voting.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    // Metrics
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong filterHits = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private volatile Instant lastCompactedAt;
+
+    @PostConstruct
+    public void load() throws IOException {
+        revoked.putAll(store.loadActive(Instant.now()));
+        filter = buildFilter();
+        logger.info("Loaded {} active token revocations", revoked.size());
+    }
+
+    /**
+     * Whether the token id has been revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        checks.incrementAndGet();
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        filterHits.incrementAndGet();
+        Instant expiresAt = revoked.get(tokenId);
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return false;
+        }
+        rejections.incrementAndGet();
+        return true;
+    }
+
+    public synchronized void revoke(VerifiedToken token) {
+        if (token.tokenId() == null || token.isExpired(Instant.now())) {
+            return;
+        }
+        try {
+            store.save(token.tokenId(), token.expiresAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error persisting token revocation", e);
+        }
+        revoked.put(token.tokenId(), token.expiresAt());
+        filter.add(token.tokenId());
+    }
+
+    @Scheduled(fixedDelayString = "${voting.revocation.compact-interval-ms:600000}")
+    public synchronized void compact() {
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        try {
+            store.compact(new HashMap<>(revoked));
+        } catch (IOException e) {
+            logger.error("Error compacting token revocations: {}", e.getMessage());
+        }
+        filter = buildFilter();
+        lastCompactedAt = now;
+    }
+
+    public Map<String, Object> getMetrics() {
+        BloomFilter current = filter;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("revokedTokens", revoked.size());
+        metrics.put("filterBits", current.getBits());
+        metrics.put("filterHashes", current.getHashes());
+        metrics.put("checks", checks.get());
+        metrics.put("filterHits", filterHits.get());
+        metrics.put("rejections", rejections.get());
+        metrics.put("lastCompactedAt", lastCompactedAt);
+        return metrics;
+    }
+
+    private BloomFilter buildFilter() {
+        // Leave headroom so revocations until the next compaction keep the false-positive rate
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2L), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        return rebuilt;
+    }
+}
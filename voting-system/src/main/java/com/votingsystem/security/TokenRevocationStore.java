@@ -0,0 +1,27 @@
+package com.votingsystem.security;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Durable backing store for revoked token ids. Entries are only needed until the
+ * token would have expired anyway.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Persist a revocation before it is acknowledged
+     */
+    void save(String tokenId, Instant expiresAt) throws IOException;
+
+    /**
+     * All revocations that have not yet expired
+     */
+    Map<String, Instant> loadActive(Instant now) throws IOException;
+
+    /**
+     * Replace the stored set with the given live entries, discarding expired ones
+     */
+    void compact(Map<String, Instant> active) throws IOException;
+}
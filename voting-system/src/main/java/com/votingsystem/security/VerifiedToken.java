@@ -0,0 +1,14 @@
+package com.votingsystem.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked. tokenId is the jti, or
+ * a hash of the token for tokens issued without one.
+ */
+public record VerifiedToken(String tokenId, String username, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
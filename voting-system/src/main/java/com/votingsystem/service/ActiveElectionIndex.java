@@ -0,0 +1,234 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.model.Election;
+import com.votingsystem.repository.ElectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * In-memory interval index over the voting windows of ACTIVE elections.
+ * <p>
+ * Answers "which elections are active at instant t" from a centered interval tree
+ * in O(log n + k) instead of querying the elections table on every request. The
+ * tree is an immutable snapshot; each admin change updates one entry and swaps in
+ * a rebuilt snapshot, so readers never lock. Changes that arrive while a full reload
+ * is reading the database are replayed over its result, so the swap does not lose them.
+ */
+@Component
+public class ActiveElectionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveElectionIndex.class);
+
+    private static final Comparator<Election> BY_START =
+            Comparator.comparing(Election::getStartTime).thenComparing(Election::getId);
+
+    private static final Comparator<Election> BY_END_DESC =
+            Comparator.comparing(Election::getEndTime).reversed().thenComparing(Election::getId);
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    private final Map<Long, Election> entries = new HashMap<>();
+
+    // Changes seen while a reload is reading, by election id; a null value is a removal
+    private final Map<Long, Election> changedDuringReload = new HashMap<>();
+    private int reloadsInFlight;
+
+    private volatile IntervalNode root;
+    private volatile boolean loaded;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        reload();
+    }
+
+    /**
+     * Elections whose window contains the given instant, ordered by start time
+     */
+    public List<Election> activeAt(LocalDateTime instant) {
+        if (!loaded) {
+            reload();
+        }
+        List<Election> active = new ArrayList<>();
+        IntervalNode node = root;
+        while (node != null) {
+            node = node.collect(instant, active);
+        }
+        active.sort(BY_START);
+        return active;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetadataChanged(ElectionMetadataChangedEvent event) {
+        // Candidate changes do not move a voting window
+        if (event.electionId() == null || event.candidateId() != null) {
+            return;
+        }
+        Election election = electionRepository.findById(event.electionId()).orElse(null);
+
+        synchronized (this) {
+            Election indexed = election != null && isIndexable(election) ? election : null;
+            if (reloadsInFlight > 0) {
+                changedDuringReload.put(event.electionId(), indexed);
+            }
+            if (!loaded) {
+                return;
+            }
+            apply(event.electionId(), indexed);
+            publish();
+        }
+    }
+
+    /**
+     * Full reload from the database; also covers status changes made outside AdminService
+     */
+    @Scheduled(fixedDelayString = "${voting.active-index.refresh-interval-ms:60000}",
+               initialDelayString = "${voting.active-index.refresh-interval-ms:60000}")
+    public void reload() {
+        synchronized (this) {
+            reloadsInFlight++;
+        }
+        List<Election> active = null;
+        try {
+            active = electionRepository.findByStatus(Election.ElectionStatus.ACTIVE);
+        } finally {
+            synchronized (this) {
+                if (active != null) {
+                    entries.clear();
+                    for (Election election : active) {
+                        if (isIndexable(election)) {
+                            entries.put(election.getId(), election);
+                        }
+                    }
+                    // The read may predate these changes
+                    changedDuringReload.forEach(this::apply);
+                    publish();
+                    loaded = true;
+                }
+                if (--reloadsInFlight == 0) {
+                    changedDuringReload.clear();
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        IntervalNode snapshot = root;
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        synchronized (this) {
+            statistics.put("indexedElections", entries.size());
+        }
+        statistics.put("treeDepth", IntervalNode.depth(snapshot));
+        statistics.put("lastRebuiltAt", lastRebuiltAt);
+        return statistics;
+    }
+
+    private void apply(Long electionId, Election indexed) {
+        if (indexed != null) {
+            entries.put(electionId, indexed);
+        } else {
+            entries.remove(electionId);
+        }
+    }
+
+    private void publish() {
+        root = IntervalNode.build(new ArrayList<>(entries.values()));
+        lastRebuiltAt = LocalDateTime.now();
+        logger.debug("Active election index rebuilt with {} elections", entries.size());
+    }
+
+    private static boolean isIndexable(Election election) {
+        return election.getStatus() == Election.ElectionStatus.ACTIVE &&
+               election.getStartTime() != null &&
+               election.getEndTime() != null &&
+               election.getStartTime().isBefore(election.getEndTime());
+    }
+
+    /**
+     * Node of a centered interval tree over half-open windows [startTime, endTime).
+     * Every window stored at a node contains the node's center; windows entirely
+     * before it go left, windows entirely after it go right.
+     */
+    private static final class IntervalNode {
+        private final LocalDateTime center;
+        private final List<Election> byStart;
+        private final List<Election> byEndDescending;
+        private final IntervalNode left;
+        private final IntervalNode right;
+
+        private IntervalNode(LocalDateTime center, List<Election> overlapping,
+                             IntervalNode left, IntervalNode right) {
+            this.center = center;
+            this.byStart = new ArrayList<>(overlapping);
+            this.byStart.sort(BY_START);
+            this.byEndDescending = new ArrayList<>(overlapping);
+            this.byEndDescending.sort(BY_END_DESC);
+            this.left = left;
+            this.right = right;
+        }
+
+        static IntervalNode build(List<Election> elections) {
+            if (elections.isEmpty()) {
+                return null;
+            }
+            elections.sort(BY_START);
+            // The median start lies inside its own window, so every level stores at least one election
+            LocalDateTime center = elections.get(elections.size() / 2).getStartTime();
+
+            List<Election> before = new ArrayList<>();
+            List<Election> overlapping = new ArrayList<>();
+            List<Election> after = new ArrayList<>();
+            for (Election election : elections) {
+                if (!election.getEndTime().isAfter(center)) {
+                    before.add(election);
+                } else if (election.getStartTime().isAfter(center)) {
+                    after.add(election);
+                } else {
+                    overlapping.add(election);
+                }
+            }
+            return new IntervalNode(center, overlapping, build(before), build(after));
+        }
+
+        /**
+         * Add the windows at this node that contain the instant and return the
+         * child to continue with
+         */
+        IntervalNode collect(LocalDateTime instant, List<Election> out) {
+            if (instant.isBefore(center)) {
+                // Every window here ends after the center, so only the start matters
+                for (Election election : byStart) {
+                    if (election.getStartTime().isAfter(instant)) {
+                        break;
+                    }
+                    out.add(election);
+                }
+                return left;
+            }
+            // Every window here starts at or before the center, so only the end matters
+            for (Election election : byEndDescending) {
+                if (!election.getEndTime().isAfter(instant)) {
+                    break;
+                }
+                out.add(election);
+            }
+            return right;
+        }
+
+        static int depth(IntervalNode node) {
+            return node == null ? 0 : 1 + Math.max(depth(node.left), depth(node.right));
+        }
+    }
+}
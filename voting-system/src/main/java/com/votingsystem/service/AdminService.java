@@ -1,228 +1,421 @@
-package com.votingsystem.service;
-
-import com.votingsystem.model.*;
-import com.votingsystem.repository.*;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.*;
-
-/**
- * Admin Service - handles all administrative operations
- */
-@Service
-public class AdminService {
-    
-    @Autowired
-    private ElectionRepository electionRepository;
-    
-    @Autowired
-    private CandidateRepository candidateRepository;
-    
-    @Autowired
-    private VoterRepository voterRepository;
-    
-    @Autowired
-    private VoteRepository voteRepository;
-    
-    @Autowired
-    private AuditLogService auditLogService;
-    
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-    
-    // ==================== Dashboard ====================
-    
-    public Map<String, Object> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        stats.put("totalVoters", voterRepository.count());
-        stats.put("verifiedVoters", voterRepository.countVerifiedVoters());
-        stats.put("pendingVoters", voterRepository.countPendingVoters());
-        stats.put("totalElections", electionRepository.count());
-        stats.put("activeElections", electionRepository.countActiveElections());
-        stats.put("totalVotes", voteRepository.count());
-        stats.put("suspiciousActivities", auditLogService.getSuspiciousActivityCount());
-        
-        return stats;
-    }
-    
-    // ==================== Election Management ====================
-    
-    @Transactional
-    public Election createElection(Election election, User admin) {
-        election.setCreatedBy(admin);
-        election.setStatus(Election.ElectionStatus.SCHEDULED);
-        Election saved = electionRepository.save(election);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_CREATED, 
-                "Election created", "Election: " + election.getName(), null);
-        
-        return saved;
-    }
-    
-    @Transactional
-    public Election updateElection(Long id, Election updatedElection, User admin) {
-        Election election = electionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Election not found"));
-        
-        election.setName(updatedElection.getName());
-        election.setDescription(updatedElection.getDescription());
-        election.setType(updatedElection.getType());
-        election.setStartTime(updatedElection.getStartTime());
-        election.setEndTime(updatedElection.getEndTime());
-        
-        Election saved = electionRepository.save(election);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_UPDATED, 
-                "Election updated", "Election: " + election.getName(), null);
-        
-        return saved;
-    }
-    
-    @Transactional
-    public void deleteElection(Long id, User admin) {
-        Election election = electionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Election not found"));
-        
-        electionRepository.delete(election);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_DELETED, 
-                "Election deleted", "Election: " + election.getName(), null);
-    }
-    
-    public List<Election> getAllElections() {
-        return electionRepository.findAll();
-    }
-    
-    @Transactional
-    public void publishResults(Long electionId, User admin) {
-        Election election = electionRepository.findById(electionId)
-                .orElseThrow(() -> new RuntimeException("Election not found"));
-        
-        if (!election.isCompleted()) {
-            throw new RuntimeException("Cannot publish results for ongoing election");
-        }
-        
-        election.setResultsPublished(true);
-        election.setResultsPublishedAt(LocalDateTime.now());
-        electionRepository.save(election);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.RESULT_PUBLISHED, 
-                "Results published", "Election: " + election.getName(), null);
-    }
-    
-    // ==================== Candidate Management ====================
-    
-    @Transactional
-    public Candidate addCandidate(Candidate candidate, User admin) {
-        Candidate saved = candidateRepository.save(candidate);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_ADDED, 
-                "Candidate added", "Candidate: " + candidate.getName(), null);
-        
-        return saved;
-    }
-    
-    @Transactional
-    public Candidate updateCandidate(Long id, Candidate updatedCandidate, User admin) {
-        Candidate candidate = candidateRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
-        
-        candidate.setName(updatedCandidate.getName());
-        candidate.setPartyName(updatedCandidate.getPartyName());
-        candidate.setPartySymbol(updatedCandidate.getPartySymbol());
-        candidate.setBiography(updatedCandidate.getBiography());
-        candidate.setManifesto(updatedCandidate.getManifesto());
-        candidate.setActive(updatedCandidate.getActive());
-        
-        Candidate saved = candidateRepository.save(candidate);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_UPDATED, 
-                "Candidate updated", "Candidate: " + candidate.getName(), null);
-        
-        return saved;
-    }
-    
-    @Transactional
-    public void deleteCandidate(Long id, User admin) {
-        Candidate candidate = candidateRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
-        
-        candidateRepository.delete(candidate);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_DELETED, 
-                "Candidate deleted", "Candidate: " + candidate.getName(), null);
-    }
-    
-    // ==================== Voter Management ====================
-    
-    public List<Voter> getAllVoters() {
-        return voterRepository.findAll();
-    }
-    
-    public List<Voter> getPendingVoters() {
-        return voterRepository.findByStatus(Voter.VoterStatus.PENDING);
-    }
-    
-    @Transactional
-    public void verifyVoter(Long voterId, User admin) {
-        Voter voter = voterRepository.findById(voterId)
-                .orElseThrow(() -> new RuntimeException("Voter not found"));
-        
-        voter.setVerified(true);
-        voter.setStatus(Voter.VoterStatus.VERIFIED);
-        voterRepository.save(voter);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.VOTER_VERIFIED, 
-                "Voter verified", "Voter ID: " + voter.getVoterId(), null);
-    }
-    
-    @Transactional
-    public void suspendVoter(Long voterId, User admin) {
-        Voter voter = voterRepository.findById(voterId)
-                .orElseThrow(() -> new RuntimeException("Voter not found"));
-        
-        voter.setStatus(Voter.VoterStatus.SUSPENDED);
-        voter.setEligible(false);
-        voterRepository.save(voter);
-        
-        auditLogService.logSuccess(admin, AuditLog.ActionType.VOTER_SUSPENDED, 
-                "Voter suspended", "Voter ID: " + voter.getVoterId(), null);
-    }
-    
-    // ==================== Results ====================
-    
-    public Map<String, Object> getElectionResults(Long electionId) {
-        Map<String, Object> results = new HashMap<>();
-        
-        Election election = electionRepository.findById(electionId)
-                .orElseThrow(() -> new RuntimeException("Election not found"));
-        
-        results.put("election", election);
-        results.put("totalVotes", voteRepository.countVotesByElection(electionId));
-        
-        List<Candidate> candidates = candidateRepository.findByElectionId(electionId);
-        List<Map<String, Object>> candidateResults = new ArrayList<>();
-        
-        for (Candidate candidate : candidates) {
-            Map<String, Object> candidateData = new HashMap<>();
-            candidateData.put("id", candidate.getId());
-            candidateData.put("name", candidate.getName());
-            candidateData.put("party", candidate.getPartyName());
-            candidateData.put("votes", voteRepository.countVotesByCandidate(candidate.getId()));
-            candidateResults.add(candidateData);
-        }
-        
-        // Sort by votes descending
-        candidateResults.sort((a, b) -> 
-            Long.compare((Long)b.get("votes"), (Long)a.get("votes")));
-        
-        results.put("candidates", candidateResults);
-        
-        return results;
-    }
-}
+package com.votingsystem.service;
+
+import com.votingsystem.dto.BulkVoterRequest;
+import com.votingsystem.dto.ElectionResponse;
+import com.votingsystem.dto.ElectionResultsResponse;
+import com.votingsystem.dto.VoterFilter;
+import com.votingsystem.dto.VoterResponse;
+import com.votingsystem.dto.VoterSlice;
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.event.VoterCountsChangedEvent;
+import com.votingsystem.model.*;
+import com.votingsystem.repository.*;
+import com.votingsystem.turnout.TurnoutRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Admin Service - handles all administrative operations
+ */
+@Service
+public class AdminService {
+    
+    @Autowired
+    private ElectionRepository electionRepository;
+    
+    @Autowired
+    private CandidateRepository candidateRepository;
+    
+    @Autowired
+    private VoterRepository voterRepository;
+    
+    @Autowired
+    private VoteRepository voteRepository;
+    
+    @Autowired
+    private AuditLogService auditLogService;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private VotedBitmapRegistry votedBitmapRegistry;
+    
+    @Autowired
+    private ElectionTallyRegistry electionTallyRegistry;
+    
+    @Autowired
+    private TurnoutRegistry turnoutRegistry;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ElectionResultSnapshotRepository resultSnapshotRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private DashboardStatistics dashboardStatistics;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${voting.voters.max-page-size:200}")
+    private int maxVoterPageSize;
+    
+    @Value("${voting.voters.bulk-chunk-size:1000}")
+    private int bulkChunkSize;
+    
+    // Each bulk chunk commits on its own, so a large action holds no long-lived locks
+    private TransactionTemplate chunkTransaction;
+    
+    @PostConstruct
+    public void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    // ==================== Dashboard ====================
+    
+    /**
+     * Event-maintained counters; lastReconciledAt says when they last matched the database
+     */
+    public Map<String, Object> getDashboardStats() {
+        return dashboardStatistics.getStatistics();
+    }
+    
+    // ==================== Election Management ====================
+    
+    @Transactional
+    public Election createElection(Election election, User admin) {
+        election.setCreatedBy(admin);
+        election.setStatus(Election.ElectionStatus.SCHEDULED);
+        Election saved = electionRepository.save(election);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.election(saved.getId()));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_CREATED, 
+                "Election created", "Election: " + election.getName(), null);
+        
+        return saved;
+    }
+    
+    @Transactional
+    public Election updateElection(Long id, Election updatedElection, User admin) {
+        Election election = electionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Election not found"));
+        
+        election.setName(updatedElection.getName());
+        election.setDescription(updatedElection.getDescription());
+        election.setType(updatedElection.getType());
+        election.setStartTime(updatedElection.getStartTime());
+        election.setEndTime(updatedElection.getEndTime());
+        
+        Election saved = electionRepository.save(election);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.election(id));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_UPDATED, 
+                "Election updated", "Election: " + election.getName(), null);
+        
+        return saved;
+    }
+    
+    @Transactional
+    public void deleteElection(Long id, User admin) {
+        Election election = electionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Election not found"));
+        
+        resultSnapshotRepository.deleteByElectionId(id);
+        electionRepository.delete(election);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.election(id));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.ELECTION_DELETED, 
+                "Election deleted", "Election: " + election.getName(), null);
+    }
+    
+    /**
+     * Drop a deleted election's in-memory state and turnout file once the delete has
+     * committed, so a rolled-back delete leaves them intact
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionMetadataChanged(ElectionMetadataChangedEvent event) {
+        if (event.electionId() == null || event.candidateId() != null ||
+                electionRepository.existsById(event.electionId())) {
+            return;
+        }
+        votedBitmapRegistry.evict(event.electionId());
+        electionTallyRegistry.evict(event.electionId());
+        turnoutRegistry.evict(event.electionId());
+    }
+    
+    public List<Election> getAllElections() {
+        return electionRepository.findAll();
+    }
+    
+    /**
+     * Elections projected for API responses; candidates and votes are never loaded
+     */
+    public List<ElectionResponse> getElectionSummaries() {
+        return electionRepository.findAllResponses();
+    }
+    
+    @Transactional
+    public void publishResults(Long electionId, User admin) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new RuntimeException("Election not found"));
+        
+        if (!election.isCompleted()) {
+            throw new RuntimeException("Cannot publish results for ongoing election");
+        }
+        
+        election.setResultsPublished(true);
+        election.setResultsPublishedAt(LocalDateTime.now());
+        electionRepository.save(election);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.election(electionId));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.RESULT_PUBLISHED, 
+                "Results published", "Election: " + election.getName(), null);
+    }
+    
+    // ==================== Candidate Management ====================
+    
+    @Transactional
+    public Candidate addCandidate(Candidate candidate, User admin) {
+        Candidate saved = candidateRepository.save(candidate);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.candidate(
+                saved.getElection().getId(), saved.getId()));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_ADDED, 
+                "Candidate added", "Candidate: " + candidate.getName(), null);
+        
+        return saved;
+    }
+    
+    @Transactional
+    public Candidate updateCandidate(Long id, Candidate updatedCandidate, User admin) {
+        Candidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Candidate not found"));
+        
+        candidate.setName(updatedCandidate.getName());
+        candidate.setPartyName(updatedCandidate.getPartyName());
+        candidate.setPartySymbol(updatedCandidate.getPartySymbol());
+        candidate.setBiography(updatedCandidate.getBiography());
+        candidate.setManifesto(updatedCandidate.getManifesto());
+        candidate.setActive(updatedCandidate.getActive());
+        
+        Candidate saved = candidateRepository.save(candidate);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.candidate(
+                saved.getElection().getId(), id));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_UPDATED, 
+                "Candidate updated", "Candidate: " + candidate.getName(), null);
+        
+        return saved;
+    }
+    
+    @Transactional
+    public void deleteCandidate(Long id, User admin) {
+        Candidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Candidate not found"));
+        
+        candidateRepository.delete(candidate);
+        eventPublisher.publishEvent(ElectionMetadataChangedEvent.candidate(
+                candidate.getElection().getId(), id));
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.CANDIDATE_DELETED, 
+                "Candidate deleted", "Candidate: " + candidate.getName(), null);
+    }
+    
+    // ==================== Voter Management ====================
+    
+    public List<Voter> getAllVoters() {
+        return voterRepository.findAll();
+    }
+    
+    public List<Voter> getPendingVoters() {
+        return voterRepository.findByStatus(Voter.VoterStatus.PENDING);
+    }
+    
+    public List<VoterResponse> getVoterSummaries() {
+        return voterRepository.findAllResponses();
+    }
+    
+    public List<VoterResponse> getPendingVoterSummaries() {
+        return voterRepository.findResponsesByStatus(Voter.VoterStatus.PENDING);
+    }
+    
+    /**
+     * Keyset page of voters in id order. Pass the previous slice's nextCursor to continue.
+     */
+    public VoterSlice getVotersAfter(VoterFilter filter, Long cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, maxVoterPageSize));
+        
+        // One extra row tells whether another page exists without counting
+        List<VoterResponse> rows = voterRepository.findPageAfter(filter, cursor, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<VoterResponse> items = hasMore ? rows.subList(0, size) : rows;
+        
+        Long nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+        return new VoterSlice(List.copyOf(items), nextCursor, hasMore);
+    }
+    
+    @Transactional
+    public void verifyVoter(Long voterId, User admin) {
+        Voter voter = voterRepository.findById(voterId)
+                .orElseThrow(() -> new RuntimeException("Voter not found"));
+        
+        VoterCountsChangedEvent counts = new VoterCountsChangedEvent(0,
+                Boolean.TRUE.equals(voter.getVerified()) ? 0 : 1,
+                voter.getStatus() == Voter.VoterStatus.PENDING ? -1 : 0);
+        
+        voter.setVerified(true);
+        voter.setStatus(Voter.VoterStatus.VERIFIED);
+        voterRepository.save(voter);
+        eventPublisher.publishEvent(counts);
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.VOTER_VERIFIED, 
+                "Voter verified", "Voter ID: " + voter.getVoterId(), null);
+    }
+    
+    @Transactional
+    public void suspendVoter(Long voterId, User admin) {
+        Voter voter = voterRepository.findById(voterId)
+                .orElseThrow(() -> new RuntimeException("Voter not found"));
+        
+        VoterCountsChangedEvent counts = new VoterCountsChangedEvent(0, 0,
+                voter.getStatus() == Voter.VoterStatus.PENDING ? -1 : 0);
+        
+        voter.setStatus(Voter.VoterStatus.SUSPENDED);
+        voter.setEligible(false);
+        voterRepository.save(voter);
+        eventPublisher.publishEvent(counts);
+        
+        auditLogService.logSuccess(admin, AuditLog.ActionType.VOTER_SUSPENDED, 
+                "Voter suspended", "Voter ID: " + voter.getVoterId(), null);
+    }
+    
+    /**
+     * Verify voters by id list or filter with chunked set-based UPDATEs, one audit entry per chunk
+     */
+    public Map<String, Object> bulkVerifyVoters(BulkVoterRequest request, User admin) {
+        return bulkUpdateVoters(request, admin, true);
+    }
+    
+    /**
+     * Suspend voters by id list or filter with chunked set-based UPDATEs, one audit entry per chunk
+     */
+    public Map<String, Object> bulkSuspendVoters(BulkVoterRequest request, User admin) {
+        return bulkUpdateVoters(request, admin, false);
+    }
+    
+    /**
+     * User for the given admin username, for callers without an authenticated request
+     */
+    public User getAdmin(String username) {
+        return userRepository.findByUsername(username).orElse(null);
+    }
+    
+    private Map<String, Object> bulkUpdateVoters(BulkVoterRequest request, User admin, boolean verify) {
+        boolean byIds = request.ids() != null && !request.ids().isEmpty();
+        boolean byFilter = request.filter() != null && !request.filter().isEmpty();
+        if (byIds == byFilter) {
+            throw new RuntimeException("Give either voter ids or a non-empty filter");
+        }
+        
+        long matched = 0;
+        long updated = 0;
+        int chunks = 0;
+        if (byIds) {
+            List<Long> ids = request.ids().stream().filter(Objects::nonNull).distinct().sorted().toList();
+            for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+                updated += updateVoterChunk(chunk, admin, verify);
+                matched += chunk.size();
+                chunks++;
+            }
+        } else {
+            // Keyset over matching ids; rows updated by earlier chunks are not revisited
+            Long afterId = null;
+            List<Long> chunk;
+            do {
+                chunk = voterRepository.findIdsAfter(request.filter(), afterId, bulkChunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                updated += updateVoterChunk(chunk, admin, verify);
+                matched += chunk.size();
+                chunks++;
+                afterId = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == bulkChunkSize);
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("action", verify ? "VERIFY" : "SUSPEND");
+        result.put("matched", matched);
+        result.put("updated", updated);
+        result.put("chunks", chunks);
+        return result;
+    }
+    
+    private int updateVoterChunk(List<Long> ids, User admin, boolean verify) {
+        Integer updated = chunkTransaction.execute(status -> {
+            // Both actions take voters out of PENDING; verify also sets the verified flag
+            long pending = voterRepository.countPendingAmong(ids);
+            long unverified = verify ? voterRepository.countUnverifiedAmong(ids) : 0;
+            int count = verify ? voterRepository.verifyAll(ids) : voterRepository.suspendAll(ids);
+            eventPublisher.publishEvent(new VoterCountsChangedEvent(0, unverified, -pending));
+            auditLogService.logSuccess(admin,
+                    verify ? AuditLog.ActionType.VOTER_VERIFIED : AuditLog.ActionType.VOTER_SUSPENDED,
+                    verify ? "Voters verified in bulk" : "Voters suspended in bulk",
+                    count + " of " + ids.size() + " voters updated, user ids " + ids.get(0) + " to "
+                            + ids.get(ids.size() - 1), null);
+            return count;
+        });
+        return updated != null ? updated : 0;
+    }
+    
+    // ==================== Results ====================
+    
+    public ElectionResultsResponse getElectionResults(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new RuntimeException("Election not found"));
+        
+        // Closed elections are served from the tally frozen at close
+        List<ElectionResultSnapshot> frozen = resultSnapshotRepository.findByElectionIdOrderByVoteCountDesc(electionId);
+        if (!frozen.isEmpty()) {
+            List<ElectionResultsResponse.CandidateResult> candidateResults = frozen.stream()
+                    .map(row -> new ElectionResultsResponse.CandidateResult(row.getCandidateId(),
+                            row.getCandidateName(), row.getPartyName(), row.getVoteCount()))
+                    .toList();
+            return new ElectionResultsResponse(ElectionResponse.from(election), frozen.get(0).getTotalVotes(),
+                    frozen.get(0).getFrozenAt(), candidateResults);
+        }
+        
+        // Served from the live tally counters rather than re-counting the votes table
+        List<ElectionResultsResponse.CandidateResult> candidateResults = new ArrayList<>();
+        for (Candidate candidate : candidateRepository.findByElectionId(electionId)) {
+            candidateResults.add(new ElectionResultsResponse.CandidateResult(candidate.getId(), candidate.getName(),
+                    candidate.getPartyName(), electionTallyRegistry.getCandidateVotes(electionId, candidate.getId())));
+        }
+        
+        // Sort by votes descending
+        candidateResults.sort(Comparator.comparingLong(ElectionResultsResponse.CandidateResult::votes).reversed());
+        
+        return new ElectionResultsResponse(ElectionResponse.from(election),
+                electionTallyRegistry.getTotalVotes(electionId), null, candidateResults);
+    }
+}
@@ -1,81 +1,179 @@
-package com.votingsystem.service;
-
-import com.votingsystem.model.AuditLog;
-import com.votingsystem.model.User;
-import com.votingsystem.repository.AuditLogRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-/**
- * Service for audit logging
- */
-@Service
-public class AuditLogService {
-    
-    @Autowired
-    private AuditLogRepository auditLogRepository;
-    
-    @Transactional
-    public void log(User user, AuditLog.ActionType actionType, String action, 
-                    String details, String ipAddress, String userAgent, 
-                    AuditLog.Severity severity, boolean success, String errorMessage) {
-        
-        AuditLog log = new AuditLog();
-        log.setUser(user);
-        log.setActionType(actionType);
-        log.setAction(action);
-        log.setDetails(details);
-        log.setIpAddress(ipAddress);
-        log.setUserAgent(userAgent);
-        log.setSeverity(severity);
-        log.setSuccess(success);
-        log.setErrorMessage(errorMessage);
-        
-        auditLogRepository.save(log);
-    }
-    
-    public void logSuccess(User user, AuditLog.ActionType actionType, String action, 
-                          String details, String ipAddress) {
-        log(user, actionType, action, details, ipAddress, null, AuditLog.Severity.INFO, true, null);
-    }
-    
-    public void logError(User user, AuditLog.ActionType actionType, String action, 
-                        String errorMessage, String ipAddress) {
-        log(user, actionType, action, null, ipAddress, null, AuditLog.Severity.ERROR, false, errorMessage);
-    }
-    
-    public void logCritical(User user, AuditLog.ActionType actionType, String action, 
-                           String details, String ipAddress) {
-        log(user, actionType, action, details, ipAddress, null, AuditLog.Severity.CRITICAL, true, null);
-    }
-    
-    public List<AuditLog> getAllLogs() {
-        return auditLogRepository.findAll();
-    }
-    
-    public Page<AuditLog> getRecentLogs(int page, int size) {
-        return auditLogRepository.findByOrderByTimestampDesc(PageRequest.of(page, size));
-    }
-    
-    public List<AuditLog> getLogsByUser(Long userId) {
-        return auditLogRepository.findByUserId(userId);
-    }
-    
-    public List<AuditLog> getLogsByDateRange(LocalDateTime start, LocalDateTime end) {
-        return auditLogRepository.findByTimestampBetween(start, end);
-    }
-    
-    public List<AuditLog> getCriticalLogs() {
-        return auditLogRepository.findCriticalLogs();
-    }
-    
-    public Long getSuspiciousActivityCount() {
-        return auditLogRepository.countSuspiciousActivities();
-    }
-}
+package com.votingsystem.service;
+
+import com.votingsystem.audit.AuditArchive;
+import com.votingsystem.dto.AuditLogCursor;
+import com.votingsystem.dto.AuditLogFilter;
+import com.votingsystem.dto.AuditLogResponse;
+import com.votingsystem.dto.AuditLogSlice;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import com.votingsystem.repository.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service for audit logging
+ */
+@Service
+public class AuditLogService {
+    
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+    
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+    
+    @Autowired
+    private AuditArchive auditArchive;
+    
+    @Autowired
+    private SuspiciousActivityDetector suspiciousActivityDetector;
+    
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+    
+    @Value("${voting.audit.max-page-size:200}")
+    private int maxPageSize;
+    
+    @Transactional
+    public void log(User user, AuditLog.ActionType actionType, String action, 
+                    String details, String ipAddress, String userAgent, 
+                    AuditLog.Severity severity, boolean success, String errorMessage) {
+        
+        AuditLog log = new AuditLog();
+        log.setId(idBlockAllocator.next(IdBlockAllocator.AUDIT_LOGS));
+        log.setUser(user);
+        log.setActionType(actionType);
+        log.setAction(action);
+        log.setDetails(details);
+        log.setIpAddress(ipAddress);
+        // Request headers can exceed the column
+        log.setUserAgent(userAgent != null && userAgent.length() > 200 ? userAgent.substring(0, 200) : userAgent);
+        log.setSeverity(severity);
+        log.setSuccess(success);
+        log.setErrorMessage(errorMessage);
+        log.setTimestamp(LocalDateTime.now());
+        
+        suspiciousActivityDetector.record(log);
+        
+        if (!auditLogWriter.isAsync(severity)) {
+            auditLogWriter.writeNow(log);
+            return;
+        }
+        
+        // Buffered entries are only released once the caller's transaction commits,
+        // so a rolled-back operation leaves no audit trail, as with a synchronous save
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.submit(log);
+                }
+            });
+        } else {
+            auditLogWriter.submit(log);
+        }
+    }
+    
+    public void logSuccess(User user, AuditLog.ActionType actionType, String action, 
+                          String details, String ipAddress) {
+        log(user, actionType, action, details, ipAddress, null, AuditLog.Severity.INFO, true, null);
+    }
+    
+    public void logError(User user, AuditLog.ActionType actionType, String action, 
+                        String errorMessage, String ipAddress) {
+        log(user, actionType, action, null, ipAddress, null, AuditLog.Severity.ERROR, false, errorMessage);
+    }
+    
+    public void logCritical(User user, AuditLog.ActionType actionType, String action, 
+                           String details, String ipAddress) {
+        log(user, actionType, action, details, ipAddress, null, AuditLog.Severity.CRITICAL, true, null);
+    }
+    
+    /**
+     * Entries still in the database; archived months are only reachable by date range
+     */
+    public List<AuditLog> getAllLogs() {
+        return auditLogRepository.findAll();
+    }
+    
+    public Page<AuditLog> getRecentLogs(int page, int size) {
+        return auditLogRepository.findByOrderByTimestampDesc(PageRequest.of(page, size));
+    }
+    
+    /**
+     * Same page as getRecentLogs, projected with the username in the same query
+     */
+    public Page<AuditLogResponse> getRecentLogResponses(int page, int size) {
+        return auditLogRepository.findRecentResponses(PageRequest.of(page, Math.max(1, Math.min(size, maxPageSize))));
+    }
+    
+    /**
+     * Keyset page of logs, newest first. Pass the previous slice's nextCursor to continue.
+     */
+    public AuditLogSlice getLogsAfter(AuditLogFilter filter, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, maxPageSize));
+        AuditLogCursor position = cursor == null || cursor.isBlank() ? null : AuditLogCursor.decode(cursor);
+        
+        // One extra row tells whether another page exists without counting
+        List<AuditLog> rows = auditLogRepository.findPageAfter(filter, position, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<AuditLog> items = hasMore ? rows.subList(0, size) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog last = items.get(items.size() - 1);
+            nextCursor = new AuditLogCursor(last.getTimestamp(), last.getId()).encode();
+        }
+        return new AuditLogSlice(List.copyOf(items), nextCursor, hasMore);
+    }
+    
+    public List<AuditLog> getLogsByUser(Long userId) {
+        return auditLogRepository.findByUserId(userId);
+    }
+    
+    /**
+     * Entries in the range from both the database and the archive, newest first
+     */
+    public List<AuditLog> getLogsByDateRange(LocalDateTime start, LocalDateTime end) {
+        List<AuditLog> hot = auditLogRepository.findByTimestampBetween(start, end);
+        List<AuditLog> archived = auditArchive.query(start, end);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        
+        // A partition that was exported but not yet dropped shows up in both tiers
+        Map<Long, AuditLog> merged = new HashMap<>();
+        for (AuditLog log : hot) {
+            merged.put(log.getId(), log);
+        }
+        for (AuditLog log : archived) {
+            merged.putIfAbsent(log.getId(), log);
+        }
+        
+        List<AuditLog> results = new ArrayList<>(merged.values());
+        results.sort(Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId).reversed());
+        return results;
+    }
+    
+    public List<AuditLog> getCriticalLogs() {
+        return auditLogRepository.findCriticalLogs();
+    }
+    
+    public List<AuditLogResponse> getCriticalLogResponses() {
+        return auditLogRepository.findCriticalResponses();
+    }
+    
+    public Long getSuspiciousActivityCount() {
+        return auditLogRepository.countSuspiciousActivities();
+    }
+}
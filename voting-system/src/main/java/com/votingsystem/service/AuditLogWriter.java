@@ -0,0 +1,294 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.AuditLogsWrittenEvent;
+import com.votingsystem.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous audit sink. Entries go into a bounded ring buffer and a background
+ * flusher writes them to audit_logs as multi-row INSERTs.
+ * <p>
+ * When the buffer is full the overflow policy decides what happens:
+ * CALLER_RUNS writes the entry on the caller's thread, BLOCK waits up to
+ * offer-timeout-ms before doing the same, DROP discards it and counts it.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_logs " +
+            "(id, user_id, action_type, action, details, ip_address, user_agent, severity, success, error_message, timestamp) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 11;
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        BLOCK,
+        DROP
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${voting.audit.async-enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.audit.sync-severities:ERROR,CRITICAL}")
+    private String[] syncSeverityNames;
+
+    @Value("${voting.audit.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${voting.audit.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${voting.audit.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${voting.audit.overflow-policy:CALLER_RUNS}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${voting.audit.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    private final Set<AuditLog.Severity> syncSeverities = EnumSet.noneOf(AuditLog.Severity.class);
+    private BlockingQueue<AuditLog> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // Serializes the flusher with explicit flush() calls
+    private final Object flushLock = new Object();
+
+    // Metrics
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflowWrites = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        for (String name : syncSeverityNames) {
+            if (!name.isBlank()) {
+                syncSeverities.add(AuditLog.Severity.valueOf(name.trim()));
+            }
+        }
+        if (!enabled) {
+            return;
+        }
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        running = true;
+        flusher = new Thread(this::runFlusher, "audit-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        flush();
+    }
+
+    /**
+     * Whether entries of this severity go through the buffer rather than the caller's transaction
+     */
+    public boolean isAsync(AuditLog.Severity severity) {
+        return enabled && !syncSeverities.contains(severity);
+    }
+
+    public void submit(AuditLog entry) {
+        if (!running) {
+            // No flusher after shutdown
+            write(List.of(entry));
+            return;
+        }
+        if (buffer.offer(entry)) {
+            enqueued.incrementAndGet();
+            if (!running) {
+                // stop() may have drained the buffer before this entry arrived
+                flush();
+            }
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP -> {
+                dropped.incrementAndGet();
+                logger.warn("Audit buffer full, dropped entry: {} {}", entry.getActionType(), entry.getAction());
+            }
+            case BLOCK -> {
+                try {
+                    if (buffer.offer(entry, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        enqueued.incrementAndGet();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writeOnCaller(entry);
+            }
+            default -> writeOnCaller(entry);
+        }
+    }
+
+    /**
+     * Insert one entry right away, inside the caller's transaction if there is one
+     */
+    public void writeNow(AuditLog entry) {
+        insert(List.of(entry));
+    }
+
+    /**
+     * Write everything still buffered. Called on shutdown.
+     */
+    public void flush() {
+        if (buffer == null) {
+            return;
+        }
+        synchronized (flushLock) {
+            List<AuditLog> batch = new ArrayList<>(maxBatchSize);
+            while (buffer.drainTo(batch, maxBatchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("syncSeverities", syncSeverities);
+        metrics.put("overflowPolicy", overflowPolicy);
+        metrics.put("queued", buffer != null ? buffer.size() : 0);
+        metrics.put("capacity", bufferCapacity);
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("written", written.get());
+        metrics.put("batches", batches.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("overflowWrites", overflowWrites.get());
+        metrics.put("failed", failed.get());
+        return metrics;
+    }
+
+    private void runFlusher() {
+        List<AuditLog> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                AuditLog first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                synchronized (flushLock) {
+                    batch.add(first);
+                    buffer.drainTo(batch, maxBatchSize - 1);
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Audit log flush failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeOnCaller(AuditLog entry) {
+        overflowWrites.incrementAndGet();
+        write(List.of(entry));
+    }
+
+    private void write(List<AuditLog> entries) {
+        try {
+            insert(entries);
+        } catch (RuntimeException e) {
+            if (entries.size() == 1) {
+                failed.incrementAndGet();
+                logger.error("Error writing audit entry {} {}: {}", entries.get(0).getActionType(),
+                        entries.get(0).getAction(), e.getMessage());
+                return;
+            }
+            // Isolate the rows that cannot be written instead of losing the whole batch
+            for (AuditLog entry : entries) {
+                write(List.of(entry));
+            }
+        }
+    }
+
+    private void insert(List<AuditLog> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] params = new Object[entries.size() * COLUMNS];
+        int i = 0;
+        int suspicious = 0;
+
+        for (AuditLog entry : entries) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+
+            params[i++] = entry.getId();
+            params[i++] = entry.getUser() != null ? entry.getUser().getId() : null;
+            params[i++] = entry.getActionType().name();
+            params[i++] = entry.getAction();
+            params[i++] = entry.getDetails();
+            params[i++] = entry.getIpAddress();
+            params[i++] = entry.getUserAgent();
+            params[i++] = entry.getSeverity().name();
+            params[i++] = entry.getSuccess();
+            params[i++] = entry.getErrorMessage();
+            params[i++] = Timestamp.valueOf(entry.getTimestamp());
+            if (entry.getActionType() == AuditLog.ActionType.SUSPICIOUS_ACTIVITY) {
+                suspicious++;
+            }
+        }
+
+        jdbcTemplate.update(sql.toString(), params);
+
+        // Rows written inside the caller's transaction only count once it commits
+        AuditLogsWrittenEvent event = new AuditLogsWrittenEvent(entries.size(), suspicious);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWritten(event);
+                }
+            });
+        } else {
+            recordWritten(event);
+        }
+    }
+
+    private void recordWritten(AuditLogsWrittenEvent event) {
+        written.addAndGet(event.entries());
+        batches.incrementAndGet();
+        eventPublisher.publishEvent(event);
+    }
+}
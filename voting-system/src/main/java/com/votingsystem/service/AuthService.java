@@ -1,172 +1,238 @@
-package com.votingsystem.service;
-
-import com.votingsystem.model.AuditLog;
-import com.votingsystem.model.User;
-import com.votingsystem.model.Voter;
-import com.votingsystem.repository.UserRepository;
-import com.votingsystem.repository.VoterRepository;
-import com.votingsystem.security.JwtTokenUtil;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * Authentication Service
- */
-@Service
-public class AuthService {
-    
-    @Autowired
-    private UserRepository userRepository;
-    
-    @Autowired
-    private VoterRepository voterRepository;
-    
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-    
-    @Autowired
-    private JwtTokenUtil jwtTokenUtil;
-    
-    @Autowired
-    private AuditLogService auditLogService;
-    
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    
-    @Transactional
-    public Map<String, Object> login(String username, String password, String ipAddress) {
-        Map<String, Object> response = new HashMap<>();
-        
-        User user = userRepository.findByUsername(username)
-                .orElse(null);
-        
-        if (user == null) {
-            auditLogService.log(null, AuditLog.ActionType.LOGIN, 
-                    "Login attempt failed - user not found", 
-                    "Username: " + username, ipAddress, null, 
-                    AuditLog.Severity.WARNING, false, "Invalid credentials");
-            response.put("success", false);
-            response.put("message", "Invalid credentials");
-            return response;
-        }
-        
-        if (user.getAccountLocked()) {
-            auditLogService.logCritical(user, AuditLog.ActionType.LOGIN, 
-                    "Login attempt on locked account", ipAddress);
-            response.put("success", false);
-            response.put("message", "Account is locked. Contact administrator.");
-            return response;
-        }
-        
-        if (!user.getActive()) {
-            auditLogService.logError(user, AuditLog.ActionType.LOGIN, 
-                    "Login attempt on inactive account", 
-                    "Account disabled", ipAddress);
-            response.put("success", false);
-            response.put("message", "Account is disabled");
-            return response;
-        }
-        
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            handleFailedLogin(user, ipAddress);
-            response.put("success", false);
-            response.put("message", "Invalid credentials");
-            return response;
-        }
-        
-        // Check voter specific conditions
-        if (user.getRole() == User.UserRole.VOTER) {
-            Voter voter = voterRepository.findByUsername(username).orElse(null);
-            if (voter != null && !voter.getVerified()) {
-                auditLogService.logError(user, AuditLog.ActionType.LOGIN, 
-                        "Login attempt - voter not verified", 
-                        "Voter needs verification", ipAddress);
-                response.put("success", false);
-                response.put("message", "Your account is pending verification");
-                return response;
-            }
-        }
-        
-        // Successful login
-        user.setFailedLoginAttempts(0);
-        user.setLastLoginAt(LocalDateTime.now());
-        user.setLastLoginIp(ipAddress);
-        userRepository.save(user);
-        
-        String token = jwtTokenUtil.generateToken(user.getUsername(), user.getRole().name());
-        
-        auditLogService.logSuccess(user, AuditLog.ActionType.LOGIN, 
-                "Successful login", "IP: " + ipAddress, ipAddress);
-        
-        response.put("success", true);
-        response.put("token", token);
-        response.put("role", user.getRole().name());
-        response.put("username", user.getUsername());
-        response.put("message", "Login successful");
-        
-        return response;
-    }
-    
-    private void handleFailedLogin(User user, String ipAddress) {
-        user.setFailedLoginAttempts(user.getFailedLoginAttempts() + 1);
-        
-        if (user.getFailedLoginAttempts() >= MAX_FAILED_ATTEMPTS) {
-            user.setAccountLocked(true);
-            auditLogService.logCritical(user, AuditLog.ActionType.ACCOUNT_LOCKED, 
-                    "Account locked due to multiple failed login attempts", ipAddress);
-        } else {
-            auditLogService.logError(user, AuditLog.ActionType.LOGIN, 
-                    "Failed login attempt", 
-                    "Attempt " + user.getFailedLoginAttempts() + " of " + MAX_FAILED_ATTEMPTS, 
-                    ipAddress);
-        }
-        
-        userRepository.save(user);
-    }
-    
-    @Transactional
-    public void logout(String username, String ipAddress) {
-        User user = userRepository.findByUsername(username).orElse(null);
-        if (user != null) {
-            auditLogService.logSuccess(user, AuditLog.ActionType.LOGOUT, 
-                    "User logged out", null, ipAddress);
-        }
-    }
-    
-    @Transactional
-    public Map<String, Object> registerVoter(Voter voter, String password) {
-        Map<String, Object> response = new HashMap<>();
-        
-        if (voterRepository.existsByVoterId(voter.getVoterId())) {
-            response.put("success", false);
-            response.put("message", "Voter ID already exists");
-            return response;
-        }
-        
-        if (voterRepository.existsByNationalId(voter.getNationalId())) {
-            response.put("success", false);
-            response.put("message", "National ID already registered");
-            return response;
-        }
-        
-        voter.setPassword(passwordEncoder.encode(password));
-        voter.setRole(User.UserRole.VOTER);
-        voter.setActive(true);
-        voter.setVerified(false);
-        voter.setStatus(Voter.VoterStatus.PENDING);
-        
-        voterRepository.save(voter);
-        
-        auditLogService.logSuccess(voter, AuditLog.ActionType.VOTER_REGISTERED, 
-                "New voter registered", "Voter ID: " + voter.getVoterId(), null);
-        
-        response.put("success", true);
-        response.put("message", "Registration successful. Awaiting verification.");
-        return response;
-    }
-}
+package com.votingsystem.service;
+
+import com.votingsystem.event.SuspiciousActivityEvent;
+import com.votingsystem.event.VoterCountsChangedEvent;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import com.votingsystem.model.Voter;
+import com.votingsystem.repository.UserRepository;
+import com.votingsystem.repository.VoterRepository;
+import com.votingsystem.security.JwtTokenUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Authentication Service
+ */
+@Service
+public class AuthService {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private VoterRepository voterRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+    
+    @Autowired
+    private AuditLogService auditLogService;
+    
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    private static final int MAX_FAILED_ATTEMPTS = 5;
+    
+    @Value("${voting.suspicious.auto-lock:false}")
+    private boolean autoLockSuspicious;
+    
+    @Transactional
+    public Map<String, Object> login(String username, String password, String ipAddress, String userAgent) {
+        Map<String, Object> response = new HashMap<>();
+        
+        User user = userRepository.findByUsername(username)
+                .orElse(null);
+        
+        if (user == null) {
+            auditLogService.log(null, AuditLog.ActionType.LOGIN, 
+                    "Login attempt failed - user not found", 
+                    "Username: " + username, ipAddress, userAgent, 
+                    AuditLog.Severity.WARNING, false, "Invalid credentials");
+            response.put("success", false);
+            response.put("message", "Invalid credentials");
+            return response;
+        }
+        
+        if (user.getAccountLocked()) {
+            auditLogService.log(user, AuditLog.ActionType.LOGIN, 
+                    "Login attempt on locked account", null, ipAddress, userAgent, 
+                    AuditLog.Severity.CRITICAL, true, null);
+            response.put("success", false);
+            response.put("message", "Account is locked. Contact administrator.");
+            return response;
+        }
+        
+        if (!user.getActive()) {
+            auditLogService.log(user, AuditLog.ActionType.LOGIN, 
+                    "Login attempt on inactive account", null, ipAddress, userAgent, 
+                    AuditLog.Severity.ERROR, false, "Account disabled");
+            response.put("success", false);
+            response.put("message", "Account is disabled");
+            return response;
+        }
+        
+        if (!passwordEncoder.matches(password, user.getPassword())) {
+            handleFailedLogin(user, ipAddress, userAgent);
+            response.put("success", false);
+            response.put("message", "Invalid credentials");
+            return response;
+        }
+        
+        // Check voter specific conditions
+        if (user.getRole() == User.UserRole.VOTER) {
+            Voter voter = voterRepository.findByUsername(username).orElse(null);
+            if (voter != null && !voter.getVerified()) {
+                auditLogService.log(user, AuditLog.ActionType.LOGIN, 
+                        "Login attempt - voter not verified", null, ipAddress, userAgent, 
+                        AuditLog.Severity.ERROR, false, "Voter needs verification");
+                response.put("success", false);
+                response.put("message", "Your account is pending verification");
+                return response;
+            }
+        }
+        
+        // Successful login; the row is written for lastLoginAt anyway, so the reset rides along
+        clearAttemptsAfterCommit(user.getId());
+        user.setFailedLoginAttempts(0);
+        user.setLastLoginAt(LocalDateTime.now());
+        user.setLastLoginIp(ipAddress);
+        userRepository.save(user);
+        
+        String token = jwtTokenUtil.generateToken(user.getUsername(), user.getRole().name());
+        
+        auditLogService.log(user, AuditLog.ActionType.LOGIN, 
+                "Successful login", "IP: " + ipAddress, ipAddress, userAgent, 
+                AuditLog.Severity.INFO, true, null);
+        
+        response.put("success", true);
+        response.put("token", token);
+        response.put("role", user.getRole().name());
+        response.put("username", user.getUsername());
+        response.put("message", "Login successful");
+        
+        return response;
+    }
+    
+    /**
+     * Forget in-memory failures only once the row they were folded into is committed,
+     * so a rolled-back save does not lose them
+     */
+    private void clearAttemptsAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    loginAttemptTracker.clear(userId);
+                }
+            });
+        } else {
+            loginAttemptTracker.clear(userId);
+        }
+    }
+    
+    private void handleFailedLogin(User user, String ipAddress, String userAgent) {
+        // Counted in memory and written behind; only a lock touches the row now
+        int attempts = loginAttemptTracker.recordFailure(user);
+        
+        if (attempts >= MAX_FAILED_ATTEMPTS) {
+            user.setFailedLoginAttempts(attempts);
+            user.setAccountLocked(true);
+            userRepository.save(user);
+            clearAttemptsAfterCommit(user.getId());
+            auditLogService.log(user, AuditLog.ActionType.ACCOUNT_LOCKED, 
+                    "Account locked due to multiple failed login attempts", null, ipAddress, userAgent, 
+                    AuditLog.Severity.CRITICAL, true, null);
+        } else {
+            auditLogService.log(user, AuditLog.ActionType.LOGIN, 
+                    "Failed login attempt", null, ipAddress, userAgent, 
+                    AuditLog.Severity.ERROR, false, "Attempt " + attempts + " of " + MAX_FAILED_ATTEMPTS);
+        }
+    }
+    
+    /**
+     * Record a detector alert and, when auto-lock is on, lock the account it names
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSuspiciousActivity(SuspiciousActivityEvent event) {
+        User user = event.userId() != null ? userRepository.getReferenceById(event.userId()) : null;
+        String subject = switch (event.source()) {
+            case USER -> "account";
+            case IP -> "IP address";
+            case CLIENT -> "IP address and client";
+        };
+        auditLogService.log(event.source() == SuspiciousActivityEvent.Source.USER ? user : null,
+                AuditLog.ActionType.SUSPICIOUS_ACTIVITY, "Repeated failed logins for " + subject,
+                event.failures() + " failures in " + event.windowSeconds() + "s",
+                event.ipAddress(), event.userAgent(), AuditLog.Severity.WARNING, false, null);
+        
+        if (autoLockSuspicious && event.source() == SuspiciousActivityEvent.Source.USER && user != null
+                && userRepository.lockAccount(event.userId()) > 0) {
+            auditLogService.logCritical(user, AuditLog.ActionType.ACCOUNT_LOCKED, 
+                    "Account locked due to suspicious login activity", 
+                    event.failures() + " failures in " + event.windowSeconds() + "s", event.ipAddress());
+        }
+    }
+    
+    @Transactional
+    public void logout(String username, String ipAddress) {
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user != null) {
+            auditLogService.logSuccess(user, AuditLog.ActionType.LOGOUT, 
+                    "User logged out", null, ipAddress);
+        }
+    }
+    
+    @Transactional
+    public Map<String, Object> registerVoter(Voter voter, String password) {
+        Map<String, Object> response = new HashMap<>();
+        
+        if (voterRepository.existsByVoterId(voter.getVoterId())) {
+            response.put("success", false);
+            response.put("message", "Voter ID already exists");
+            return response;
+        }
+        
+        if (voterRepository.existsByNationalId(voter.getNationalId())) {
+            response.put("success", false);
+            response.put("message", "National ID already registered");
+            return response;
+        }
+        
+        voter.setPassword(passwordEncoder.encode(password));
+        voter.setRole(User.UserRole.VOTER);
+        voter.setActive(true);
+        voter.setVerified(false);
+        voter.setStatus(Voter.VoterStatus.PENDING);
+        
+        voterRepository.save(voter);
+        eventPublisher.publishEvent(VoterCountsChangedEvent.registered(1));
+        
+        auditLogService.logSuccess(voter, AuditLog.ActionType.VOTER_REGISTERED, 
+                "New voter registered", "Voter ID: " + voter.getVoterId(), null);
+        
+        response.put("success", true);
+        response.put("message", "Registration successful. Awaiting verification.");
+        return response;
+    }
+}
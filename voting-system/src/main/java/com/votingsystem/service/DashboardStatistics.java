@@ -0,0 +1,179 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.AuditLogsWrittenEvent;
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.event.ElectionStatusChangedEvent;
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.event.VoterCountsChangedEvent;
+import com.votingsystem.repository.AuditLogRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import com.votingsystem.repository.VoterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admin dashboard counters kept in memory and moved by domain events, so reading them
+ * costs no COUNT scan over voters, votes or audit_logs.
+ * <p>
+ * Voter, vote and suspicious-activity counters are adjusted by the deltas their events
+ * carry. The elections table is small, so its two counters are simply recounted on
+ * election events. A scheduled reconciliation replaces every counter with the database
+ * counts, which corrects drift from writes made outside the application and from audit
+ * partitions dropped by retention.
+ */
+@Component
+public class DashboardStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatistics.class);
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    private final AtomicLong totalVoters = new AtomicLong();
+    private final AtomicLong verifiedVoters = new AtomicLong();
+    private final AtomicLong pendingVoters = new AtomicLong();
+    private final AtomicLong totalElections = new AtomicLong();
+    private final AtomicLong activeElections = new AtomicLong();
+    private final AtomicLong totalVotes = new AtomicLong();
+    private final AtomicLong suspiciousActivities = new AtomicLong();
+    private volatile LocalDateTime lastReconciledAt;
+
+    // Metrics
+    private final AtomicLong reconciliations = new AtomicLong();
+    private volatile long lastDrift;
+    private volatile long lastReconcileMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        reconcile();
+    }
+
+    /**
+     * Replace every counter with its database count
+     */
+    @Scheduled(fixedDelayString = "${voting.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${voting.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            long drift = reset(totalVoters, voterRepository.count())
+                    + reset(verifiedVoters, voterRepository.countVerifiedVoters())
+                    + reset(pendingVoters, voterRepository.countPendingVoters())
+                    + reset(totalElections, electionRepository.count())
+                    + reset(activeElections, electionRepository.countActiveElections())
+                    + reset(totalVotes, voteRepository.count())
+                    + reset(suspiciousActivities, auditLogRepository.countSuspiciousActivities());
+            lastDrift = drift;
+            lastReconciledAt = LocalDateTime.now();
+            reconciliations.incrementAndGet();
+            if (drift != 0) {
+                logger.info("Dashboard statistics reconciled with a drift of {}", drift);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error reconciling dashboard statistics: {}", e.getMessage());
+        } finally {
+            lastReconcileMillis = System.currentTimeMillis() - start;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoterCountsChanged(VoterCountsChangedEvent event) {
+        totalVoters.addAndGet(event.registered());
+        verifiedVoters.addAndGet(event.verified());
+        pendingVoters.addAndGet(event.pending());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteCommitted(VoteCommittedEvent event) {
+        totalVotes.incrementAndGet();
+    }
+
+    // Published by the writer only after the rows have committed
+    @EventListener
+    public void onAuditLogsWritten(AuditLogsWrittenEvent event) {
+        if (event.suspiciousActivities() > 0) {
+            suspiciousActivities.addAndGet(event.suspiciousActivities());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionMetadataChanged(ElectionMetadataChangedEvent event) {
+        if (event.candidateId() == null) {
+            recountElections();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        recountElections();
+    }
+
+    /**
+     * Current counters under the keys the dashboard has always used, plus lastReconciledAt
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalVoters", totalVoters.get());
+        stats.put("verifiedVoters", verifiedVoters.get());
+        stats.put("pendingVoters", pendingVoters.get());
+        stats.put("totalElections", totalElections.get());
+        stats.put("activeElections", activeElections.get());
+        stats.put("totalVotes", totalVotes.get());
+        stats.put("suspiciousActivities", suspiciousActivities.get());
+        stats.put("lastReconciledAt", lastReconciledAt);
+        return stats;
+    }
+
+    public long getVerifiedVoters() {
+        return verifiedVoters.get();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("reconciliations", reconciliations.get());
+        metrics.put("lastReconciledAt", lastReconciledAt);
+        metrics.put("lastDrift", lastDrift);
+        metrics.put("lastReconcileMillis", lastReconcileMillis);
+        return metrics;
+    }
+
+    private void recountElections() {
+        try {
+            totalElections.set(electionRepository.count());
+            activeElections.set(electionRepository.countActiveElections());
+        } catch (RuntimeException e) {
+            logger.error("Error recounting elections: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Set the counter and return how far it was off
+     */
+    private static long reset(AtomicLong counter, Long actual) {
+        long value = actual != null ? actual : 0;
+        return Math.abs(counter.getAndSet(value) - value);
+    }
+}
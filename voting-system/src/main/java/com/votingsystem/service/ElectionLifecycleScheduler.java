@@ -0,0 +1,516 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.event.ElectionStatusChangedEvent;
+import com.votingsystem.journal.VoteJournal;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.Candidate;
+import com.votingsystem.model.Election;
+import com.votingsystem.model.ElectionResultSnapshot;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.ElectionResultSnapshotRepository;
+import com.votingsystem.repository.VoteRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Election lifecycle engine - activates elections at startTime and closes them at endTime.
+ * <p>
+ * Boundaries are kept in a hashed timer wheel, so a tick only touches the timers in one
+ * slot instead of querying the elections table. Timers that come due together are
+ * applied in batched transactions. Closing freezes the final tally into
+ * election_result_snapshots and drops the per-election in-memory structures; it waits
+ * until no journaled ballot for the election is still queued, retried or awaiting replay.
+ * findExpiredActiveElections and findOverdueScheduledElections are only used at startup
+ * and by an infrequent safety sweep.
+ */
+@Component
+public class ElectionLifecycleScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElectionLifecycleScheduler.class);
+
+    private static final int BATCH_SIZE = 200;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private ElectionResultSnapshotRepository resultSnapshotRepository;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+
+    @Autowired
+    private ActiveElectionIndex activeElectionIndex;
+
+    @Autowired
+    private VotedBitmapRegistry votedBitmapRegistry;
+
+    @Autowired
+    private ElectionTallyRegistry electionTallyRegistry;
+
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+
+    @Autowired
+    private VoteJournal voteJournal;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${voting.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.lifecycle.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${voting.lifecycle.wheel-size:512}")
+    private int wheelSize;
+
+    // Lets ballots accepted just before endTime finish committing before the tally is frozen
+    @Value("${voting.lifecycle.close-grace-ms:15000}")
+    private long closeGraceMs;
+
+    // How long a close waits before checking again for unsettled ballots
+    @Value("${voting.lifecycle.close-retry-ms:5000}")
+    private long closeRetryMs;
+
+    private TransactionTemplate transactionTemplate;
+    private TimerWheel wheel;
+    private Thread ticker;
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    // Latest schedule generation per election; timers from older generations are ignored
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationCounter = new AtomicLong();
+
+    // Metrics
+    private final AtomicLong activated = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong staleTimers = new AtomicLong();
+    private final AtomicLong deferredCloses = new AtomicLong();
+    private final AtomicLong sweepActivated = new AtomicLong();
+    private final AtomicLong sweepClosed = new AtomicLong();
+    private volatile LocalDateTime lastSweepAt;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel = new TimerWheel(tickMs, wheelSize, System.currentTimeMillis());
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "election-lifecycle-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Close whatever ended while the application was down before scheduling the rest
+        sweep();
+        for (Election election : electionRepository.findByStatus(Election.ElectionStatus.SCHEDULED)) {
+            schedule(election);
+        }
+        for (Election election : electionRepository.findByStatus(Election.ElectionStatus.ACTIVE)) {
+            schedule(election);
+        }
+
+        running = true;
+        ticker = new Thread(this::runTicker, "election-lifecycle-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+            ticker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (worker != null) {
+            worker.shutdown();
+            worker.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetadataChanged(ElectionMetadataChangedEvent event) {
+        if (wheel == null || event.electionId() == null || event.candidateId() != null) {
+            return;
+        }
+        Election election = electionRepository.findById(event.electionId()).orElse(null);
+        if (election == null) {
+            // Deleted: any pending timers become stale
+            generations.remove(event.electionId());
+        } else {
+            schedule(election);
+        }
+    }
+
+    /**
+     * Safety net for boundaries the wheel could not see, such as elections whose
+     * status was changed directly in the database, and for transitions whose
+     * transaction failed
+     */
+    @Scheduled(fixedDelayString = "${voting.lifecycle.sweep-interval-ms:300000}",
+               initialDelayString = "${voting.lifecycle.sweep-interval-ms:300000}")
+    public void sweep() {
+        if (worker == null) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(closeGraceMs));
+        List<Long> expired = electionRepository.findExpiredActiveElections(cutoff).stream()
+                .map(Election::getId)
+                .toList();
+        List<Long> overdue = electionRepository.findOverdueScheduledElections(LocalDateTime.now()).stream()
+                .map(Election::getId)
+                .toList();
+        lastSweepAt = LocalDateTime.now();
+
+        // Serialized with timer batches so an election is never transitioned twice concurrently
+        if (!overdue.isEmpty()) {
+            worker.execute(() -> {
+                try {
+                    sweepActivated.addAndGet(activate(overdue));
+                } catch (RuntimeException e) {
+                    logger.error("Catch-up activation failed: {}", e.getMessage(), e);
+                }
+            });
+        }
+        if (!expired.isEmpty()) {
+            worker.execute(() -> sweepClosed.addAndGet(close(expired)));
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("pendingTimers", wheel != null ? wheel.pending() : 0);
+        metrics.put("trackedElections", generations.size());
+        metrics.put("activated", activated.get());
+        metrics.put("closed", closed.get());
+        metrics.put("activatedBySweep", sweepActivated.get());
+        metrics.put("closedBySweep", sweepClosed.get());
+        metrics.put("staleTimers", staleTimers.get());
+        metrics.put("deferredCloses", deferredCloses.get());
+        metrics.put("lastSweepAt", lastSweepAt);
+        return metrics;
+    }
+
+    private void schedule(Election election) {
+        long generation = generationCounter.incrementAndGet();
+        generations.put(election.getId(), generation);
+
+        Election.ElectionStatus status = election.getStatus();
+        if (status == Election.ElectionStatus.SCHEDULED) {
+            wheel.schedule(new Timer(election.getId(), Transition.ACTIVATE, generation,
+                    toEpochMillis(election.getStartTime())));
+        }
+        if (status == Election.ElectionStatus.SCHEDULED || status == Election.ElectionStatus.ACTIVE) {
+            wheel.schedule(new Timer(election.getId(), Transition.CLOSE, generation,
+                    toEpochMillis(election.getEndTime()) + closeGraceMs));
+        }
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                List<Timer> due = wheel.advance(System.currentTimeMillis());
+                if (!due.isEmpty()) {
+                    worker.execute(() -> fire(due));
+                }
+                Thread.sleep(wheel.millisUntilNextTick(System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Election lifecycle tick failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void fire(List<Timer> due) {
+        List<Long> toActivate = new ArrayList<>();
+        List<Long> toClose = new ArrayList<>();
+
+        for (Timer timer : due) {
+            if (!Long.valueOf(timer.generation()).equals(generations.get(timer.electionId()))) {
+                staleTimers.incrementAndGet();
+                continue;
+            }
+            (timer.transition() == Transition.ACTIVATE ? toActivate : toClose).add(timer.electionId());
+        }
+
+        try {
+            activate(toActivate);
+            close(toClose);
+        } catch (RuntimeException e) {
+            // The sweep retries both, for elections still past their boundary
+            logger.error("Election lifecycle transition failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int activate(List<Long> electionIds) {
+        if (electionIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> activatedIds = new ArrayList<>();
+
+        for (int from = 0; from < electionIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = electionIds.subList(from, Math.min(from + BATCH_SIZE, electionIds.size()));
+            List<Long> changed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> ids = new ArrayList<>();
+                for (Election election : electionRepository.findAllById(chunk)) {
+                    if (election.getStatus() == Election.ElectionStatus.SCHEDULED &&
+                            !now.isBefore(election.getStartTime()) && now.isBefore(election.getEndTime())) {
+                        election.setStatus(Election.ElectionStatus.ACTIVE);
+                        ids.add(election.getId());
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    auditLogService.logSuccess(null, AuditLog.ActionType.ELECTION_UPDATED,
+                            "Elections activated by schedule", "Election IDs: " + ids, null);
+                }
+                return ids;
+            });
+            activatedIds.addAll(changed);
+        }
+
+        for (Long electionId : activatedIds) {
+            electionMetadataCache.evictElection(electionId);
+            votedBitmapRegistry.warm(electionId);
+            electionTallyRegistry.warm(electionId);
+        }
+        if (!activatedIds.isEmpty()) {
+            activeElectionIndex.reload();
+            eventPublisher.publishEvent(new ElectionStatusChangedEvent(activatedIds, Election.ElectionStatus.ACTIVE));
+            activated.addAndGet(activatedIds.size());
+            logger.info("Activated {} elections", activatedIds.size());
+        }
+        return activatedIds.size();
+    }
+
+    private int close(List<Long> requestedIds) {
+        List<Long> electionIds = withoutUnsettledBallots(requestedIds);
+        if (electionIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> closedIds = new ArrayList<>();
+
+        for (int from = 0; from < electionIds.size(); from += BATCH_SIZE) {
+            List<Long> chunk = electionIds.subList(from, Math.min(from + BATCH_SIZE, electionIds.size()));
+            List<Long> changed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> ids = new ArrayList<>();
+                for (Election election : electionRepository.findAllById(chunk)) {
+                    boolean open = election.getStatus() == Election.ElectionStatus.SCHEDULED ||
+                                   election.getStatus() == Election.ElectionStatus.ACTIVE;
+                    if (open && !now.isBefore(election.getEndTime())) {
+                        election.setStatus(Election.ElectionStatus.COMPLETED);
+                        freezeResults(election.getId(), now);
+                        ids.add(election.getId());
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    auditLogService.logSuccess(null, AuditLog.ActionType.ELECTION_UPDATED,
+                            "Elections closed by schedule", "Election IDs: " + ids, null);
+                }
+                return ids;
+            });
+            closedIds.addAll(changed);
+        }
+
+        for (Long electionId : closedIds) {
+            // No more ballots: results are served from the snapshot from here on
+            electionMetadataCache.evictElection(electionId);
+            votedBitmapRegistry.evict(electionId);
+            electionTallyRegistry.evict(electionId);
+            generations.remove(electionId);
+        }
+        if (!closedIds.isEmpty()) {
+            activeElectionIndex.reload();
+            eventPublisher.publishEvent(new ElectionStatusChangedEvent(closedIds, Election.ElectionStatus.COMPLETED));
+            closed.addAndGet(closedIds.size());
+            logger.info("Closed {} elections and froze their results", closedIds.size());
+        }
+        return closedIds.size();
+    }
+
+    /**
+     * Elections whose ballots have all committed. The others get a new close timer;
+     * those the wheel does not track are picked up again by the sweep.
+     */
+    private List<Long> withoutUnsettledBallots(List<Long> electionIds) {
+        boolean recovering = voteJournal.isRecovering();
+        List<Long> ready = new ArrayList<>();
+        for (Long electionId : electionIds) {
+            if (!recovering && !voteIngestionService.hasPendingFor(electionId)) {
+                ready.add(electionId);
+                continue;
+            }
+            deferredCloses.incrementAndGet();
+            Long generation = generations.get(electionId);
+            if (generation != null && wheel != null) {
+                wheel.schedule(new Timer(electionId, Transition.CLOSE, generation,
+                        System.currentTimeMillis() + closeRetryMs));
+            }
+        }
+        if (ready.size() < electionIds.size()) {
+            logger.info("Deferred closing {} elections until their ballots have committed",
+                    electionIds.size() - ready.size());
+        }
+        return ready;
+    }
+
+    private void freezeResults(Long electionId, LocalDateTime frozenAt) {
+        if (resultSnapshotRepository.existsByElectionId(electionId)) {
+            return;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        long total = 0;
+        for (Object[] row : voteRepository.countVotesByCandidateForElection(electionId)) {
+            counts.put((Long) row[0], (Long) row[1]);
+            total += (Long) row[1];
+        }
+
+        List<ElectionResultSnapshot> rows = new ArrayList<>();
+        for (Candidate candidate : candidateRepository.findByElectionId(electionId)) {
+            rows.add(new ElectionResultSnapshot(null, electionId, candidate.getId(), candidate.getName(),
+                    candidate.getPartyName(), counts.getOrDefault(candidate.getId(), 0L), total, frozenAt));
+        }
+        resultSnapshotRepository.saveAll(rows);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Transition {
+        ACTIVATE,
+        CLOSE
+    }
+
+    private record Timer(Long electionId, Transition transition, long generation, long deadlineMillis) {
+    }
+
+    /**
+     * Hashed timer wheel. Producers hand timers over through a lock-free queue; only
+     * the ticker thread touches the slots. Timers more than one revolution away stay
+     * in their slot until the tick that reaches their deadline.
+     */
+    private static final class TimerWheel {
+        private final long tickMs;
+        private final long startMillis;
+        private final int mask;
+        private final List<List<Timer>> slots;
+        private final Queue<Timer> incoming = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private long tick;
+
+        TimerWheel(long tickMs, int wheelSize, long startMillis) {
+            int size = 1;
+            while (size < wheelSize) {
+                size <<= 1;
+            }
+            this.tickMs = tickMs;
+            this.startMillis = startMillis;
+            this.mask = size - 1;
+            this.slots = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        void schedule(Timer timer) {
+            pending.incrementAndGet();
+            incoming.add(timer);
+        }
+
+        int pending() {
+            return pending.get();
+        }
+
+        /**
+         * Move the wheel up to the given time and return every timer that came due
+         */
+        List<Timer> advance(long nowMillis) {
+            List<Timer> due = new ArrayList<>();
+
+            Timer timer;
+            while ((timer = incoming.poll()) != null) {
+                long deadlineTick = deadlineTick(timer);
+                if (deadlineTick <= tick) {
+                    due.add(timer);
+                } else {
+                    slots.get((int) (deadlineTick & mask)).add(timer);
+                }
+            }
+
+            long target = (nowMillis - startMillis) / tickMs;
+            while (tick < target) {
+                tick++;
+                Iterator<Timer> slot = slots.get((int) (tick & mask)).iterator();
+                while (slot.hasNext()) {
+                    Timer candidate = slot.next();
+                    if (deadlineTick(candidate) <= tick) {
+                        due.add(candidate);
+                        slot.remove();
+                    }
+                }
+            }
+
+            pending.addAndGet(-due.size());
+            return due;
+        }
+
+        long millisUntilNextTick(long nowMillis) {
+            return Math.max(1, startMillis + (tick + 1) * tickMs - nowMillis);
+        }
+
+        private long deadlineTick(Timer timer) {
+            long offset = timer.deadlineMillis() - startMillis;
+            // Round up so a timer never fires before its deadline
+            return offset <= 0 ? 0 : (offset + tickMs - 1) / tickMs;
+        }
+    }
+}
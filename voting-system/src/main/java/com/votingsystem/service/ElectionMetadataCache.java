@@ -0,0 +1,116 @@
+package com.votingsystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.model.Candidate;
+import com.votingsystem.model.Election;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Size- and TTL-bounded cache of election and candidate metadata.
+ * Entries are evicted when AdminService changes them, after the change commits.
+ */
+@Component
+public class ElectionMetadataCache {
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Value("${voting.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${voting.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Long, Optional<Election>> elections;
+    private Cache<Long, List<Candidate>> candidatesByElection;
+    private Cache<Long, Optional<Candidate>> candidates;
+
+    @PostConstruct
+    public void init() {
+        elections = newCache(maxEntries, ttlSeconds);
+        candidatesByElection = newCache(maxEntries, ttlSeconds);
+        candidates = newCache(maxEntries * 10, ttlSeconds);
+    }
+
+    public Optional<Election> getElection(Long electionId) {
+        return elections.get(electionId, electionRepository::findById);
+    }
+
+    public Optional<Candidate> getCandidate(Long candidateId) {
+        return candidates.get(candidateId, candidateRepository::findById);
+    }
+
+    /**
+     * Candidates of an election ordered by display order
+     */
+    public List<Candidate> getCandidates(Long electionId) {
+        return candidatesByElection.get(electionId,
+                id -> List.copyOf(candidateRepository.findByElectionIdOrderByDisplayOrder(id)));
+    }
+
+    /**
+     * Drop a cached election whose status changed; its candidates are unaffected
+     */
+    public void evictElection(Long electionId) {
+        elections.invalidate(electionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetadataChanged(ElectionMetadataChangedEvent event) {
+        if (event.electionId() != null) {
+            elections.invalidate(event.electionId());
+            candidatesByElection.invalidate(event.electionId());
+        }
+        if (event.candidateId() != null) {
+            candidates.invalidate(event.candidateId());
+        } else if (event.electionId() != null) {
+            // A deleted election takes its candidates with it
+            candidates.asMap().values().removeIf(candidate -> candidate
+                    .map(c -> event.electionId().equals(c.getElection().getId()))
+                    .orElse(false));
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("elections", describe(elections));
+        statistics.put("candidateLists", describe(candidatesByElection));
+        statistics.put("candidates", describe(candidates));
+        return statistics;
+    }
+
+    private static Map<String, Object> describe(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("hits", stats.hitCount());
+        description.put("misses", stats.missCount());
+        description.put("hitRate", stats.hitRate());
+        description.put("evictions", stats.evictionCount());
+        return description;
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
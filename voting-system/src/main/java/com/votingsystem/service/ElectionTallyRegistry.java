@@ -0,0 +1,283 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.Election;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live per-election tally counters, incremented on every committed vote
+ */
+@Component
+public class ElectionTallyRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElectionTallyRegistry.class);
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, ElectionTally> tallies = new ConcurrentHashMap<>();
+    private TransactionTemplate loadTransaction;
+
+    private volatile Map<String, Object> lastReconciliation = Map.of();
+
+    // Per election, live minus stored count by candidate as of the last reconciliation
+    private Map<Long, Map<Long, Long>> previousDifferences = Map.of();
+
+    @PostConstruct
+    public void init() {
+        // One snapshot for the counts and for checking which buffered votes they include
+        loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        loadTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmActiveElections() {
+        for (Election election : electionRepository.findByStatus(Election.ElectionStatus.ACTIVE)) {
+            tallyFor(election.getId());
+        }
+    }
+
+    public void warm(Long electionId) {
+        tallyFor(electionId);
+    }
+
+    @EventListener
+    public void onVoteCommitted(VoteCommittedEvent event) {
+        ElectionTally tally = tallies.get(event.electionId());
+        if (tally != null) {
+            tally.increment(event);
+        }
+    }
+
+    public long getTotalVotes(Long electionId) {
+        ElectionTally tally = tallyFor(electionId);
+        if (!tally.ready) {
+            // Another thread is still loading this election
+            return voteRepository.countVotesByElection(electionId);
+        }
+        return tally.total.sum();
+    }
+
+    public long getCandidateVotes(Long electionId, Long candidateId) {
+        ElectionTally tally = tallyFor(electionId);
+        if (!tally.ready) {
+            return countFromDatabase(electionId).getOrDefault(candidateId, 0L);
+        }
+        LongAdder counter = tally.candidates.get(candidateId);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * Candidate id to vote count for one election
+     */
+    public Map<Long, Long> snapshot(Long electionId) {
+        ElectionTally tally = tallyFor(electionId);
+        if (!tally.ready) {
+            return countFromDatabase(electionId);
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        tally.candidates.forEach((candidateId, counter) -> counts.put(candidateId, counter.sum()));
+        return counts;
+    }
+
+    /**
+     * Discard the live counters and rebuild them from the votes table
+     */
+    public void rebuild(Long electionId) {
+        ElectionTally tally = new ElectionTally();
+        tallies.put(electionId, tally);
+        load(electionId, tally);
+    }
+
+    public void evict(Long electionId) {
+        tallies.remove(electionId);
+    }
+
+    /**
+     * Compare live counters with the database and report drift. Counters of elections
+     * that are no longer accepting votes are corrected. On active ones in-flight commits
+     * make a point-in-time comparison approximate, so their drift is only reported once
+     * the same difference shows up in two consecutive runs.
+     */
+    @Scheduled(fixedDelayString = "${voting.tally.reconcile-interval-ms:300000}",
+               initialDelayString = "${voting.tally.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        List<Map<String, Object>> drift = new ArrayList<>();
+        Map<Long, Map<Long, Long>> differences = new HashMap<>();
+
+        for (Long electionId : new ArrayList<>(tallies.keySet())) {
+            Map<Long, Long> live = snapshot(electionId);
+            Map<Long, Long> stored = countFromDatabase(electionId);
+
+            Set<Long> candidateIds = new HashSet<>(live.keySet());
+            candidateIds.addAll(stored.keySet());
+
+            Map<Long, Long> difference = new HashMap<>();
+            for (Long candidateId : candidateIds) {
+                long liveCount = live.getOrDefault(candidateId, 0L);
+                long storedCount = stored.getOrDefault(candidateId, 0L);
+                if (liveCount != storedCount) {
+                    difference.put(candidateId, liveCount - storedCount);
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("electionId", electionId);
+                    entry.put("candidateId", candidateId);
+                    entry.put("liveCount", liveCount);
+                    entry.put("databaseCount", storedCount);
+                    drift.add(entry);
+                }
+            }
+            if (difference.isEmpty()) {
+                continue;
+            }
+
+            Election election = electionRepository.findById(electionId).orElse(null);
+            if (election == null) {
+                evict(electionId);
+                continue;
+            }
+            if (election.isActive() && !difference.equals(previousDifferences.get(electionId))) {
+                // Possibly votes still committing; look again next run
+                differences.put(electionId, difference);
+                continue;
+            }
+
+            logger.warn("Tally drift detected for election {}: live={}, database={}", electionId, live, stored);
+            auditLogService.log(null, AuditLog.ActionType.TALLY_DRIFT,
+                    "Tally drift detected", "Election: " + electionId, null, null,
+                    AuditLog.Severity.WARNING, false, "Live tally differs from votes table");
+            if (!election.isActive()) {
+                rebuild(electionId);
+            }
+        }
+        previousDifferences = differences;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("reconciledAt", LocalDateTime.now());
+        report.put("electionsChecked", tallies.size());
+        report.put("drift", drift);
+        lastReconciliation = report;
+    }
+
+    public Map<String, Object> getLastReconciliation() {
+        return lastReconciliation;
+    }
+
+    private ElectionTally tallyFor(Long electionId) {
+        ElectionTally tally = tallies.get(electionId);
+        if (tally != null) {
+            return tally;
+        }
+
+        // Register before loading so votes committed during the load are not lost
+        ElectionTally created = new ElectionTally();
+        tally = tallies.putIfAbsent(electionId, created);
+        if (tally != null) {
+            return tally;
+        }
+        load(electionId, created);
+        return created;
+    }
+
+    /**
+     * Fill a registered tally from the votes table, then merge the votes committed
+     * meanwhile that the counts did not already include
+     */
+    private void load(Long electionId, ElectionTally tally) {
+        try {
+            loadTransaction.executeWithoutResult(status -> {
+                countFromDatabase(electionId).forEach(tally::add);
+                while (true) {
+                    List<VoteCommittedEvent> buffered = tally.drainOrOpen();
+                    if (buffered.isEmpty()) {
+                        return;
+                    }
+                    List<Long> voteIds = buffered.stream().map(VoteCommittedEvent::voteId).toList();
+                    Set<Long> counted = new HashSet<>(voteRepository.findIdsAmong(electionId, voteIds));
+                    for (VoteCommittedEvent event : buffered) {
+                        if (!counted.contains(event.voteId())) {
+                            tally.add(event.candidateId(), 1L);
+                        }
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            tallies.remove(electionId, tally);
+            throw e;
+        }
+    }
+
+    private Map<Long, Long> countFromDatabase(Long electionId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : voteRepository.countVotesByCandidateForElection(electionId)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static class ElectionTally {
+        private final Map<Long, LongAdder> candidates = new ConcurrentHashMap<>();
+        private final LongAdder total = new LongAdder();
+        // Votes committed while loading, merged once the counts are in
+        private final List<VoteCommittedEvent> pending = new ArrayList<>();
+        private volatile boolean ready;
+
+        void increment(VoteCommittedEvent event) {
+            if (!ready) {
+                synchronized (this) {
+                    if (!ready) {
+                        pending.add(event);
+                        return;
+                    }
+                }
+            }
+            add(event.candidateId(), 1L);
+        }
+
+        void add(Long candidateId, Long count) {
+            candidates.computeIfAbsent(candidateId, id -> new LongAdder()).add(count);
+            total.add(count);
+        }
+
+        /**
+         * Take the buffered votes, or mark the tally ready if there are none
+         */
+        synchronized List<VoteCommittedEvent> drainOrOpen() {
+            if (pending.isEmpty()) {
+                ready = true;
+                return List.of();
+            }
+            List<VoteCommittedEvent> drained = new ArrayList<>(pending);
+            pending.clear();
+            return drained;
+        }
+    }
+}
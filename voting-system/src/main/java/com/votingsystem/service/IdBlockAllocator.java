@@ -0,0 +1,114 @@
+package com.votingsystem.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table-based hi/lo id allocation over id_generators, for rows inserted through JDBC.
+ * <p>
+ * Each row holds the next free id of one table. A caller reserves a block by advancing
+ * it in a short transaction of its own, then hands out ids from memory, so inserts
+ * need no AUTO_INCREMENT round trip and can be batched. Vote and user ids come from
+ * the same table through Hibernate's pooled-lo table generator, which uses the same layout.
+ */
+@Component
+// After JPA startup, so schema updates have created the tables it reads
+@DependsOn("entityManagerFactory")
+public class IdBlockAllocator {
+
+    public static final String AUDIT_LOGS = "audit_logs";
+    public static final String VOTES = "votes";
+    public static final String USERS = "users";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${voting.ids.block-size:1000}")
+    private int blockSize;
+
+    private TransactionTemplate requiresNew;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private static final class Block {
+        private long next;
+        private long limit;
+        private long reservations;
+    }
+
+    @PostConstruct
+    public void init() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_generators (" +
+                "name VARCHAR(64) NOT NULL PRIMARY KEY, next_id BIGINT NOT NULL)");
+        // Tables that used AUTO_INCREMENT before keep their existing ids; allocation starts past them
+        reconcile(AUDIT_LOGS);
+        reconcile(VOTES);
+        reconcile(USERS);
+    }
+
+    /**
+     * Next id for the table; ids are unique but have gaps after restarts
+     */
+    public long next(String table) {
+        Block block = blocks.computeIfAbsent(table, name -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                block.next = reserve(table, blockSize);
+                block.limit = block.next + blockSize;
+                block.reservations++;
+            }
+            return block.next++;
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("blockSize", blockSize);
+        blocks.forEach((table, block) -> {
+            synchronized (block) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("remainingInBlock", block.limit - block.next);
+                entry.put("reservations", block.reservations);
+                metrics.put(table, entry);
+            }
+        });
+        return metrics;
+    }
+
+    private long reserve(String table, int size) {
+        Long first = requiresNew.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_id FROM id_generators WHERE name = ? FOR UPDATE", Long.class, table);
+            jdbcTemplate.update("UPDATE id_generators SET next_id = ? WHERE name = ?", current + size, table);
+            return current;
+        });
+        if (first == null) {
+            throw new IllegalStateException("No id_generators row for " + table);
+        }
+        return first;
+    }
+
+    private void reconcile(String table) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO id_generators (name, next_id) " +
+                "SELECT ?, COALESCE(MAX(id), 0) + 1 FROM " + table + " " +
+                "ON DUPLICATE KEY UPDATE next_id = GREATEST(next_id, VALUES(next_id))", table));
+    }
+}
@@ -0,0 +1,608 @@
+package com.votingsystem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votingsystem.dto.LiveResultsFrame;
+import com.votingsystem.event.ElectionMetadataChangedEvent;
+import com.votingsystem.event.ElectionStatusChangedEvent;
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.model.Candidate;
+import com.votingsystem.model.Election;
+import com.votingsystem.model.ElectionResultSnapshot;
+import com.votingsystem.repository.ElectionResultSnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live results streams, one channel per election with subscribers.
+ * <p>
+ * Committed votes only mark a channel dirty. A ticker builds at most one frame per
+ * channel per interval from the live tally counters, serializes it once and queues it
+ * for every subscriber. Each subscriber has a small bounded queue drained on the send
+ * pool, so the ticker never blocks on a client; a subscriber whose queue overflows or
+ * whose send stalls past the send timeout is dropped, and reconnects with replay.
+ * Frame ids carry a per-process prefix; a subscriber reconnecting with the id of
+ * the last frame it saw is replayed the frames it missed if they are still retained,
+ * and otherwise starts again from a snapshot. Idle subscribers get a heartbeat comment.
+ */
+@Component
+public class LiveResultsBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveResultsBroadcaster.class);
+
+    // Queue markers besides frames
+    private static final Object HEARTBEAT = new Object();
+    private static final Object COMPLETE = new Object();
+
+    @Autowired
+    private ElectionTallyRegistry electionTallyRegistry;
+
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+
+    @Autowired
+    private ElectionResultSnapshotRepository resultSnapshotRepository;
+
+    @Autowired
+    private DashboardStatistics dashboardStatistics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${voting.live.interval-ms:1000}")
+    private long intervalMs;
+
+    @Value("${voting.live.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${voting.live.replay-frames:120}")
+    private int replayFrames;
+
+    @Value("${voting.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${voting.live.retry-ms:3000}")
+    private long retryMs;
+
+    @Value("${voting.live.send-threads:4}")
+    private int sendThreads;
+
+    @Value("${voting.live.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${voting.live.max-queued-frames:64}")
+    private int maxQueuedFrames;
+
+    // Frame ids from an earlier process never match, so reconnects after a restart get a snapshot
+    private final String idPrefix = Long.toString(System.currentTimeMillis(), 36) + "-";
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private ScheduledExecutorService ticker;
+    private ExecutorService fanOut;
+
+    // Metrics
+    private final AtomicLong framesPublished = new AtomicLong();
+    private final AtomicLong framesSent = new AtomicLong();
+    private final AtomicLong replays = new AtomicLong();
+    private final AtomicLong sendFailures = new AtomicLong();
+    private final AtomicLong slowSubscribersDropped = new AtomicLong();
+    private volatile long lastTickMillis;
+
+    /**
+     * Receives the frames of one election. Calls for one subscriber never overlap.
+     */
+    public interface Subscriber {
+
+        /**
+         * Deliver a frame; json is the frame already serialized
+         */
+        void send(LiveResultsFrame frame, String json) throws IOException;
+
+        default void heartbeat() throws IOException {
+        }
+
+        /**
+         * The stream has ended, because the election closed or the subscription was cancelled
+         */
+        default void complete() {
+        }
+    }
+
+    /**
+     * Handle for ending a subscription
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private record Published(long sequence, LiveResultsFrame frame, String json) {
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger counter = new AtomicInteger();
+        fanOut = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-results-send-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-results-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        ticker.shutdownNow();
+        fanOut.shutdown();
+        fanOut.awaitTermination(5, TimeUnit.SECONDS);
+        channels.values().forEach(channel -> channel.subscribers.forEach(Delivery::close));
+        channels.clear();
+    }
+
+    /**
+     * Server-Sent Events stream of an election's results. lastEventId is the
+     * Last-Event-ID header of a reconnecting client, or null.
+     */
+    public SseEmitter stream(Long electionId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscription subscription = subscribe(electionId, lastEventId, new Subscriber() {
+            @Override
+            public void send(LiveResultsFrame frame, String json) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .id(frame.id())
+                        .name(frame.type().name().toLowerCase(Locale.ROOT))
+                        .reconnectTime(retryMs)
+                        .data(json, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+
+            @Override
+            public void complete() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Subscribe to an election's results. The subscriber first gets the frames missed
+     * since lastEventId, or a snapshot, then a frame per interval while votes arrive.
+     * A closed election gets one CLOSED frame with the frozen results and is completed.
+     */
+    public Subscription subscribe(Long electionId, String lastEventId, Subscriber subscriber) {
+        Election election = electionMetadataCache.getElection(electionId)
+                .orElseThrow(() -> new RuntimeException("Election not found"));
+
+        Delivery delivery = new Delivery(subscriber);
+        while (true) {
+            Published closed = closedFrame(election.getId());
+            if (closed != null) {
+                delivery.enqueue(closed);
+                delivery.enqueue(COMPLETE);
+                return () -> {
+                };
+            }
+
+            // Join outside the map lock, since it sends; a channel retired in between is
+            // no longer in the map, so look again
+            Channel channel = channels.computeIfAbsent(electionId, Channel::new);
+            if (channel.join(delivery, lastEventId)) {
+                return () -> leave(electionId, delivery);
+            }
+        }
+    }
+
+    @EventListener
+    public void onVoteCommitted(VoteCommittedEvent event) {
+        Channel channel = channels.get(event.electionId());
+        if (channel != null) {
+            channel.dirty = true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMetadataChanged(ElectionMetadataChangedEvent event) {
+        Channel channel = event.electionId() != null ? channels.get(event.electionId()) : null;
+        if (channel != null) {
+            // Candidates or their names may have changed; everyone gets a full frame
+            channel.resync = true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        if (event.status() != Election.ElectionStatus.COMPLETED) {
+            return;
+        }
+        for (Long electionId : event.electionIds()) {
+            Channel channel = channels.remove(electionId);
+            if (channel == null) {
+                continue;
+            }
+            channel.retire();
+            Published closed = closedFrame(electionId);
+            if (closed != null) {
+                send(channel.subscribers, closed);
+            }
+            channel.subscribers.forEach(delivery -> delivery.enqueue(COMPLETE));
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("channels", channels.size());
+        metrics.put("subscribers", channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum());
+        metrics.put("intervalMs", intervalMs);
+        metrics.put("framesPublished", framesPublished.get());
+        metrics.put("framesSent", framesSent.get());
+        metrics.put("replays", replays.get());
+        metrics.put("sendFailures", sendFailures.get());
+        metrics.put("slowSubscribersDropped", slowSubscribersDropped.get());
+        metrics.put("lastTickMillis", lastTickMillis);
+        return metrics;
+    }
+
+    private void tick() {
+        long start = System.currentTimeMillis();
+        try {
+            for (Channel channel : channels.values()) {
+                if (channel.dirty || channel.resync) {
+                    Published published = channel.publish();
+                    if (published != null) {
+                        send(channel.subscribers, published);
+                    }
+                }
+                for (Delivery delivery : channel.subscribers) {
+                    if (delivery.isStalled(start)) {
+                        slowSubscribersDropped.incrementAndGet();
+                        delivery.fail();
+                    }
+                    if (delivery.failed) {
+                        leave(channel.electionId, delivery);
+                    } else if (start - delivery.lastSentAt >= heartbeatMs) {
+                        delivery.enqueue(HEARTBEAT);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Live results tick failed: {}", e.getMessage(), e);
+        } finally {
+            lastTickMillis = System.currentTimeMillis() - start;
+        }
+    }
+
+    /**
+     * Queue a frame for every subscriber; each queue keeps its frames in order
+     */
+    private void send(List<Delivery> subscribers, Published published) {
+        for (Delivery delivery : subscribers) {
+            delivery.enqueue(published);
+        }
+    }
+
+    private void leave(Long electionId, Delivery delivery) {
+        Channel channel = channels.get(electionId);
+        if (channel != null) {
+            channel.leave(delivery);
+        }
+    }
+
+    private Published closedFrame(Long electionId) {
+        List<ElectionResultSnapshot> frozen = resultSnapshotRepository.findByElectionIdOrderByVoteCountDesc(electionId);
+        if (frozen.isEmpty()) {
+            return null;
+        }
+        List<LiveResultsFrame.CandidateVotes> candidates = frozen.stream()
+                .map(row -> new LiveResultsFrame.CandidateVotes(row.getCandidateId(), row.getCandidateName(),
+                        row.getPartyName(), row.getVoteCount()))
+                .toList();
+        return toPublished(0, LiveResultsFrame.Type.CLOSED, electionId, frozen.get(0).getTotalVotes(), candidates);
+    }
+
+    private Published toPublished(long sequence, LiveResultsFrame.Type type, Long electionId, long totalVotes,
+                                  List<LiveResultsFrame.CandidateVotes> candidates) {
+        long verified = dashboardStatistics.getVerifiedVoters();
+        double turnout = verified > 0 ? Math.round(totalVotes * 10000.0 / verified) / 100.0 : 0.0;
+        LiveResultsFrame frame = new LiveResultsFrame(idPrefix + sequence, type, electionId, totalVotes, verified,
+                turnout, candidates, LocalDateTime.now());
+        try {
+            return new Published(sequence, frame, objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializing live results frame", e);
+        }
+    }
+
+    /**
+     * Counts as of the last published frame, and the frames kept for replay
+     */
+    private final class Channel {
+        private final Long electionId;
+        private final List<Delivery> subscribers = new CopyOnWriteArrayList<>();
+        private final Deque<Published> recent = new ArrayDeque<>();
+        private Map<Long, Long> counts;
+        private long totalVotes;
+        private long sequence;
+        private volatile boolean dirty;
+        private volatile boolean resync;
+        // Removed from the map; guarded by the channel lock
+        private boolean retired;
+
+        private Channel(Long electionId) {
+            this.electionId = electionId;
+            this.counts = electionTallyRegistry.snapshot(electionId);
+            this.totalVotes = electionTallyRegistry.getTotalVotes(electionId);
+        }
+
+        /**
+         * Send the new subscriber what it is missing, then add it. Under the channel
+         * lock, so no frame is published in between. False if the channel was retired.
+         */
+        private synchronized boolean join(Delivery delivery, String lastEventId) {
+            if (retired) {
+                return false;
+            }
+            List<Published> missed = missedSince(lastEventId);
+            if (missed != null) {
+                replays.incrementAndGet();
+                missed.forEach(delivery::enqueue);
+            } else {
+                delivery.enqueue(toPublished(sequence, LiveResultsFrame.Type.SNAPSHOT, electionId, totalVotes,
+                        fullList()));
+            }
+            subscribers.add(delivery);
+            return true;
+        }
+
+        /**
+         * Drop a subscriber, and the channel with its last one. Under the channel lock,
+         * so a join cannot add to a channel that is being removed.
+         */
+        private synchronized void leave(Delivery delivery) {
+            subscribers.remove(delivery);
+            if (subscribers.isEmpty() && !retired) {
+                retired = true;
+                channels.remove(electionId, this);
+            }
+        }
+
+        private synchronized void retire() {
+            retired = true;
+        }
+
+        /**
+         * Frame for the changes since the last one, or null if nothing changed
+         */
+        private synchronized Published publish() {
+            boolean full = resync;
+            resync = false;
+            dirty = false;
+
+            Map<Long, Long> current = electionTallyRegistry.snapshot(electionId);
+            long total = electionTallyRegistry.getTotalVotes(electionId);
+            List<LiveResultsFrame.CandidateVotes> changed = new ArrayList<>();
+            current.forEach((candidateId, votes) -> {
+                if (!votes.equals(counts.get(candidateId))) {
+                    changed.add(new LiveResultsFrame.CandidateVotes(candidateId, null, null, votes));
+                }
+            });
+            if (!full && changed.isEmpty() && total == totalVotes) {
+                return null;
+            }
+            counts = current;
+            totalVotes = total;
+            sequence++;
+
+            Published published = full
+                    ? toPublished(sequence, LiveResultsFrame.Type.SNAPSHOT, electionId, total, fullList())
+                    : toPublished(sequence, LiveResultsFrame.Type.DELTA, electionId, total, changed);
+            recent.addLast(published);
+            while (recent.size() > replayFrames) {
+                recent.removeFirst();
+            }
+            framesPublished.incrementAndGet();
+            return published;
+        }
+
+        /**
+         * Retained frames after lastEventId, or null when they cannot be replayed
+         */
+        private List<Published> missedSince(String lastEventId) {
+            if (lastEventId == null || !lastEventId.startsWith(idPrefix)) {
+                return null;
+            }
+            long last;
+            try {
+                last = Long.parseLong(lastEventId.substring(idPrefix.length()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (last > sequence) {
+                return null;
+            }
+            long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().sequence();
+            if (last + 1 < oldest) {
+                return null;
+            }
+            return recent.stream().filter(published -> published.sequence() > last).toList();
+        }
+
+        private List<LiveResultsFrame.CandidateVotes> fullList() {
+            List<LiveResultsFrame.CandidateVotes> list = new ArrayList<>();
+            for (Candidate candidate : electionMetadataCache.getCandidates(electionId)) {
+                list.add(new LiveResultsFrame.CandidateVotes(candidate.getId(), candidate.getName(),
+                        candidate.getPartyName(), counts.getOrDefault(candidate.getId(), 0L)));
+            }
+            return list;
+        }
+    }
+
+    /**
+     * One subscriber, its queue of frames and markers, and the last frame it was sent;
+     * frames at or before that are skipped. At most one drain runs at a time, on the
+     * send pool, so calls to the subscriber never overlap.
+     */
+    private final class Delivery {
+        private final Subscriber subscriber;
+        private final Deque<Object> queue = new ArrayDeque<>();
+        // Guarded by this
+        private boolean scheduled;
+        private boolean finished;
+        private boolean closed;
+        // Drain only
+        private long lastSequence = -1;
+        private volatile Thread sender;
+        private volatile long sendStartedAt;
+        private volatile long lastSentAt = System.currentTimeMillis();
+        private volatile boolean failed;
+
+        private Delivery(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Queue a frame, HEARTBEAT or COMPLETE. A heartbeat is skipped while anything is
+         * pending; a full queue means the client is not keeping up, so it is dropped.
+         */
+        private void enqueue(Object item) {
+            synchronized (this) {
+                if (failed || finished || (item == HEARTBEAT && (scheduled || !queue.isEmpty()))) {
+                    return;
+                }
+                if (item != COMPLETE && queue.size() >= maxQueuedFrames) {
+                    slowSubscribersDropped.incrementAndGet();
+                } else {
+                    finished = item == COMPLETE;
+                    queue.addLast(item);
+                    schedule();
+                    return;
+                }
+            }
+            fail();
+        }
+
+        private boolean isStalled(long now) {
+            return sender != null && now - sendStartedAt > sendTimeoutMs;
+        }
+
+        /**
+         * Stop sending and let a drain close the subscriber; a send stuck on the client is interrupted
+         */
+        private void fail() {
+            Thread stuck;
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                failed = true;
+                queue.clear();
+                stuck = sender;
+                schedule();
+            }
+            sendFailures.incrementAndGet();
+            if (stuck != null) {
+                stuck.interrupt();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+            try {
+                fanOut.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; stop() closes every subscriber
+                scheduled = false;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Object item;
+                synchronized (this) {
+                    item = failed ? null : queue.pollFirst();
+                    if (item == null) {
+                        scheduled = false;
+                        break;
+                    }
+                }
+                if (item == COMPLETE) {
+                    close();
+                    return;
+                }
+                sender = Thread.currentThread();
+                sendStartedAt = System.currentTimeMillis();
+                try {
+                    if (item == HEARTBEAT) {
+                        subscriber.heartbeat();
+                    } else {
+                        send((Published) item);
+                    }
+                    lastSentAt = System.currentTimeMillis();
+                } catch (IOException | RuntimeException e) {
+                    fail();
+                } finally {
+                    sender = null;
+                    // A timed-out send may have been interrupted; the pool thread carries on
+                    Thread.interrupted();
+                }
+            }
+            if (failed) {
+                close();
+            }
+        }
+
+        private void send(Published published) throws IOException {
+            // CLOSED frames carry no sequence and always go out
+            if (published.frame().type() != LiveResultsFrame.Type.CLOSED && published.sequence() <= lastSequence) {
+                return;
+            }
+            subscriber.send(published.frame(), published.json());
+            lastSequence = Math.max(lastSequence, published.sequence());
+            framesSent.incrementAndGet();
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            try {
+                subscriber.complete();
+            } catch (RuntimeException e) {
+                // Already closed by the client
+            }
+        }
+    }
+}
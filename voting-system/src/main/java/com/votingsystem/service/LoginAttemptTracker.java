@@ -0,0 +1,126 @@
+package com.votingsystem.service;
+
+import com.votingsystem.model.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failed-login counters kept in memory and written behind to users.failed_login_attempts.
+ * <p>
+ * Lockout is decided from the in-memory count, so a burst of bad passwords does not
+ * update the users row on every attempt. Dirty counters are flushed in one batch on a
+ * schedule; the row is only written immediately when the account locks (by AuthService).
+ * A flush only writes a row whose lock flag and last login are still what the counter was
+ * seeded with, so a reset committed by a lock or successful login is never overwritten.
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptTracker.class);
+
+    // Locked accounts keep the count they were locked with; a newer login means the count was reset
+    private static final String FLUSH_SQL =
+            "UPDATE users SET failed_login_attempts = ? WHERE id = ? AND account_locked = FALSE " +
+            "AND (last_login_at = ? OR (last_login_at IS NULL AND ? IS NULL))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Counter> attempts = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    private final AtomicLong failuresRecorded = new AtomicLong();
+    private final AtomicLong rowsFlushed = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    /**
+     * Failures so far and the last login of the row they were counted against
+     */
+    private record Counter(int count, LocalDateTime lastLoginAt) {
+    }
+
+    /**
+     * Count a failed password for the user and return the attempts so far. The stored
+     * count on the entity seeds the counter the first time the user is seen.
+     */
+    public int recordFailure(User user) {
+        Counter counter = attempts.merge(user.getId(),
+                new Counter(user.getFailedLoginAttempts() + 1, user.getLastLoginAt()),
+                (current, seed) -> new Counter(current.count() + 1, current.lastLoginAt()));
+        dirty.add(user.getId());
+        failuresRecorded.incrementAndGet();
+        return counter.count();
+    }
+
+    /**
+     * Forget the user's counter once its value has been persisted with the row, on lock or successful login
+     */
+    public void clear(Long userId) {
+        attempts.remove(userId);
+        dirty.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${voting.login.attempts-flush-interval-ms:5000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        List<Object[]> batch = new ArrayList<>(ids.size());
+        List<Counter> values = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            dirty.remove(id);
+            Counter counter = attempts.get(id);
+            if (counter != null) {
+                Timestamp lastLoginAt = counter.lastLoginAt() != null ? Timestamp.valueOf(counter.lastLoginAt()) : null;
+                batch.add(new Object[]{counter.count(), id, lastLoginAt, lastLoginAt});
+                values.add(counter);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            dirty.addAll(ids);
+            logger.error("Error flushing failed-login counters: {}", e.getMessage());
+            return;
+        }
+        rowsFlushed.addAndGet(batch.size());
+        flushes.incrementAndGet();
+
+        // Counters now match the database; drop the ones nobody touched since, which bounds memory
+        for (int i = 0; i < batch.size(); i++) {
+            attempts.remove((Long) batch.get(i)[1], values.get(i));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("trackedUsers", attempts.size());
+        metrics.put("pendingFlush", dirty.size());
+        metrics.put("failuresRecorded", failuresRecorded.get());
+        metrics.put("rowsFlushed", rowsFlushed.get());
+        metrics.put("flushes", flushes.get());
+        return metrics;
+    }
+}
@@ -0,0 +1,195 @@
+package com.votingsystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.votingsystem.event.SuspiciousActivityEvent;
+import com.votingsystem.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streaming detector for repeated failed logins, fed from AuditLogService.log.
+ * <p>
+ * Failures are counted per user, per IP address and per (IP, user agent) in
+ * bucketed sliding windows, so each tracked key costs a fixed-size array no matter
+ * how many attempts it makes. Keys idle for a whole window are evicted, and each
+ * key space is capped. Crossing a threshold publishes a SuspiciousActivityEvent once
+ * until the count falls back under it.
+ */
+@Component
+public class SuspiciousActivityDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuspiciousActivityDetector.class);
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${voting.suspicious.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.suspicious.window-seconds:3600}")
+    private long windowSeconds;
+
+    @Value("${voting.suspicious.buckets:60}")
+    private int bucketCount;
+
+    // Failures allowed within the window before an alert; schema.sql's report uses > 3 per user per hour
+    @Value("${voting.suspicious.user-threshold:3}")
+    private int userThreshold;
+
+    @Value("${voting.suspicious.ip-threshold:20}")
+    private int ipThreshold;
+
+    @Value("${voting.suspicious.client-threshold:10}")
+    private int clientThreshold;
+
+    @Value("${voting.suspicious.max-tracked-keys:100000}")
+    private long maxTrackedKeys;
+
+    private long bucketMillis;
+    private Cache<Long, SlidingWindow> users;
+    private Cache<String, SlidingWindow> ips;
+    private Cache<String, SlidingWindow> clients;
+
+    // Metrics
+    private final AtomicLong failuresObserved = new AtomicLong();
+    private final Map<SuspiciousActivityEvent.Source, AtomicLong> alerts =
+            new EnumMap<>(SuspiciousActivityEvent.Source.class);
+
+    @PostConstruct
+    public void init() {
+        bucketMillis = Math.max(1L, Duration.ofSeconds(windowSeconds).toMillis() / bucketCount);
+        users = newWindowCache(maxTrackedKeys, windowSeconds);
+        ips = newWindowCache(maxTrackedKeys, windowSeconds);
+        clients = newWindowCache(maxTrackedKeys, windowSeconds);
+        for (SuspiciousActivityEvent.Source source : SuspiciousActivityEvent.Source.values()) {
+            alerts.put(source, new AtomicLong());
+        }
+    }
+
+    /**
+     * Observe an audit entry; only failed logins are counted
+     */
+    public void record(AuditLog entry) {
+        if (!enabled || entry.getActionType() != AuditLog.ActionType.LOGIN || Boolean.TRUE.equals(entry.getSuccess())) {
+            return;
+        }
+        failuresObserved.incrementAndGet();
+
+        long bucket = System.currentTimeMillis() / bucketMillis;
+        Long userId = entry.getUser() != null ? entry.getUser().getId() : null;
+        String ip = entry.getIpAddress();
+        String userAgent = entry.getUserAgent();
+
+        if (userId != null) {
+            check(users.get(userId, key -> new SlidingWindow(bucketCount)), bucket, userThreshold,
+                    SuspiciousActivityEvent.Source.USER, userId, ip, userAgent);
+        }
+        if (ip != null) {
+            check(ips.get(ip, key -> new SlidingWindow(bucketCount)), bucket, ipThreshold,
+                    SuspiciousActivityEvent.Source.IP, userId, ip, userAgent);
+            if (userAgent != null) {
+                check(clients.get(ip + '\n' + userAgent, key -> new SlidingWindow(bucketCount)), bucket,
+                        clientThreshold, SuspiciousActivityEvent.Source.CLIENT, userId, ip, userAgent);
+            }
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("windowSeconds", windowSeconds);
+        metrics.put("buckets", bucketCount);
+        metrics.put("trackedUsers", users.estimatedSize());
+        metrics.put("trackedIps", ips.estimatedSize());
+        metrics.put("trackedClients", clients.estimatedSize());
+        metrics.put("failuresObserved", failuresObserved.get());
+        Map<String, Long> alertCounts = new LinkedHashMap<>();
+        alerts.forEach((source, count) -> alertCounts.put(source.name(), count.get()));
+        metrics.put("alerts", alertCounts);
+        return metrics;
+    }
+
+    private void check(SlidingWindow window, long bucket, int threshold, SuspiciousActivityEvent.Source source,
+                       Long userId, String ip, String userAgent) {
+        int failures = window.recordAndCheck(bucket, threshold);
+        if (failures == 0) {
+            return;
+        }
+        alerts.get(source).incrementAndGet();
+        logger.warn("Suspicious login activity ({}): {} failures in {}s, user={}, ip={}",
+                source, failures, windowSeconds, userId, ip);
+        eventPublisher.publishEvent(new SuspiciousActivityEvent(source, userId, ip, userAgent,
+                failures, windowSeconds, LocalDateTime.now()));
+    }
+
+    private static <K> Cache<K, SlidingWindow> newWindowCache(long maximumSize, long windowSeconds) {
+        // A key untouched for a full window has nothing left to count
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    /**
+     * Ring of per-bucket counts covering one window; the running total excludes expired buckets
+     */
+    static final class SlidingWindow {
+        private final int[] counts;
+        private long head = -1;
+        private int total;
+        private boolean alerting;
+
+        SlidingWindow(int buckets) {
+            this.counts = new int[buckets];
+        }
+
+        /**
+         * Count one failure in the given bucket. Returns the window total if this
+         * failure took it over the threshold, otherwise 0.
+         */
+        synchronized int recordAndCheck(long bucket, int threshold) {
+            advance(bucket);
+            counts[(int) (head % counts.length)]++;
+            total++;
+
+            if (total <= threshold) {
+                alerting = false;
+                return 0;
+            }
+            if (alerting) {
+                return 0;
+            }
+            alerting = true;
+            return total;
+        }
+
+        private void advance(long bucket) {
+            if (bucket <= head) {
+                // Same bucket, or a clock step backwards: count it in the newest bucket
+                return;
+            }
+            if (head < 0 || bucket - head >= counts.length) {
+                Arrays.fill(counts, 0);
+                total = 0;
+            } else {
+                for (long expired = head + 1; expired <= bucket; expired++) {
+                    int index = (int) (expired % counts.length);
+                    total -= counts[index];
+                    counts[index] = 0;
+                }
+            }
+            head = bucket;
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.journal.VoteJournal;
+import com.votingsystem.model.AuditLog;
+import com.votingsystem.model.User;
+import com.votingsystem.model.Vote;
+import com.votingsystem.repository.VoteRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vote Ingestion Service - group-commits validated ballots in micro-batches.
+ * Callers block until the batch holding their vote has committed, or, when the
+ * vote journal is enabled and the database stalls, until the ballot is durable
+ * in the journal.
+ */
+@Service
+public class VoteIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteIngestionService.class);
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private VoteJournal voteJournal;
+
+    @Value("${voting.ingestion.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${voting.ingestion.max-batch-size:200}")
+    private int maxBatchSize;
+
+    @Value("${voting.ingestion.max-linger-ms:5}")
+    private long maxLingerMs;
+
+    @Value("${voting.ingestion.ack-timeout-ms:10000}")
+    private long ackTimeoutMs;
+
+    // Journaled ballots are retried until they commit; this only decides when that is reported as an error
+    @Value("${voting.ingestion.db-retry-alert-after:5}")
+    private int dbRetryAlertAfter;
+
+    @Value("${voting.ingestion.db-retry-backoff-ms:200}")
+    private long dbRetryBackoffMs;
+
+    @Value("${voting.ingestion.db-retry-max-backoff-ms:30000}")
+    private long dbRetryMaxBackoffMs;
+
+    private TransactionTemplate transactionTemplate;
+    private BlockingQueue<PendingVote> queue;
+    private Thread writer;
+    private ScheduledExecutorService retryExecutor;
+    private volatile boolean running;
+
+    // voterId:electionId of ballots accepted but not yet settled
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong votesCommitted = new AtomicLong();
+    private final AtomicLong votesFailed = new AtomicLong();
+    private final AtomicLong journalAcknowledged = new AtomicLong();
+    private final AtomicLong dbRetries = new AtomicLong();
+    private final AtomicLong listenerFailures = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong largestBatchSize = new AtomicLong();
+    private final AtomicLong totalCommitNanos = new AtomicLong();
+    private final AtomicLong lastCommitNanos = new AtomicLong();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vote-ingestion-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::runWriter, "vote-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        // Batches still waiting for a retry stay in the journal and are replayed at the next start
+        retryExecutor.shutdownNow();
+    }
+
+    /**
+     * Persist a validated vote and its audit entry, returning once it is durable.
+     * Throws DataIntegrityViolationException if the unique_vote constraint rejects it.
+     */
+    public Vote submit(Vote vote, User voter, String auditDetails, String ipAddress) {
+        String key = vote.getVoter().getId() + ":" + vote.getElection().getId();
+        PendingVote pending = new PendingVote(key, vote, voter, auditDetails, ipAddress);
+
+        if (!inFlight.add(key)) {
+            throw new DataIntegrityViolationException("A vote for this voter and election is already in flight");
+        }
+        pending.result.whenComplete((committed, error) -> {
+            // A journaled ballot still being retried counts as cast until it settles
+            if (error == null || pending.settled || !pending.durable) {
+                inFlight.remove(key);
+            }
+        });
+
+        if (!enabled) {
+            commitBatch(List.of(pending));
+        } else {
+            try {
+                if (!queue.offer(pending, ackTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    RuntimeException full = new RuntimeException("Vote ingestion queue is full");
+                    pending.result.completeExceptionally(full);
+                    throw full;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.result.completeExceptionally(e);
+                throw new RuntimeException("Interrupted while queueing vote", e);
+            }
+        }
+
+        try {
+            return pending.result.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataIntegrityViolationException cause) {
+                throw cause;
+            }
+            if (pending.durable) {
+                // The database gave up, but the ballot will be replayed from the journal
+                journalAcknowledged.incrementAndGet();
+                return vote;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Error committing vote", e.getCause());
+        } catch (TimeoutException e) {
+            if (pending.durable) {
+                journalAcknowledged.incrementAndGet();
+                return vote;
+            }
+            throw new RuntimeException("Timed out waiting for vote commit", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for vote commit", e);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingVote> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Linger briefly so concurrent voters share one commit
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLingerMs);
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commitBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAll(batch, e);
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Vote ingestion writer error: {}", e.getMessage(), e);
+                failAll(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commitBatch(List<PendingVote> batch) {
+        long start = System.nanoTime();
+
+        if (voteJournal.isEnabled()) {
+            try {
+                for (PendingVote pending : batch) {
+                    pending.sequence = voteJournal.append(pending.vote);
+                }
+                // One msync covers every ballot in the batch
+                voteJournal.force();
+            } catch (RuntimeException e) {
+                logger.error("Error writing vote journal: {}", e.getMessage(), e);
+                failAll(batch, e);
+                return;
+            }
+            for (PendingVote pending : batch) {
+                pending.durable = true;
+            }
+        }
+
+        List<PendingVote> committed;
+        try {
+            committed = tryCommit(batch);
+        } catch (RuntimeException e) {
+            if (!voteJournal.isEnabled()) {
+                logger.error("Vote batch of {} failed: {}", batch.size(), e.getMessage());
+                failAll(batch, e);
+                return;
+            }
+            // Journaled ballots are acknowledged now and retried off the writer thread,
+            // so a database stall does not hold up the ballots queued behind this batch
+            logger.warn("Vote batch of {} failed, retrying in the background: {}", batch.size(), e.getMessage());
+            for (PendingVote pending : batch) {
+                pending.result.completeExceptionally(e);
+            }
+            scheduleRetry(batch, 1);
+            return;
+        }
+        settle(batch, committed, start);
+    }
+
+    /**
+     * Commit the batch, isolating duplicates if unique_vote rejects it. Throws if the
+     * database fails for another reason; nothing is settled then.
+     */
+    private List<PendingVote> tryCommit(List<PendingVote> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            for (PendingVote pending : batch) {
+                pending.settled = true;
+            }
+            return batch;
+        } catch (DataIntegrityViolationException e) {
+            return commitIndividually(batch);
+        } catch (RuntimeException e) {
+            resetIds(batch);
+            throw e;
+        }
+    }
+
+    private void scheduleRetry(List<PendingVote> batch, int attempt) {
+        long backoff = Math.min(dbRetryBackoffMs << Math.min(attempt - 1, 16), dbRetryMaxBackoffMs);
+        try {
+            retryExecutor.schedule(() -> retry(batch, attempt), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the ballots are replayed from the journal at the next start
+            logger.warn("Leaving {} journaled votes for replay at the next start", batch.size());
+        }
+    }
+
+    private void retry(List<PendingVote> batch, int attempt) {
+        long start = System.nanoTime();
+        dbRetries.incrementAndGet();
+        List<PendingVote> committed;
+        try {
+            committed = tryCommit(batch);
+        } catch (RuntimeException e) {
+            if (attempt == dbRetryAlertAfter) {
+                logger.error("Vote batch of {} still failing after {} retries, continuing: {}",
+                        batch.size(), attempt, e.getMessage());
+            }
+            scheduleRetry(batch, attempt + 1);
+            return;
+        }
+        settle(batch, committed, start);
+    }
+
+    /**
+     * Resolve settled ballots in the journal and publish the committed ones. Journaled
+     * ballots that failed on their own are retried. Every caller is answered before any
+     * listener runs, and a failing listener is only logged, so a committed ballot is
+     * never reported as failed.
+     */
+    private void settle(List<PendingVote> batch, List<PendingVote> committed, long start) {
+        if (voteJournal.isEnabled()) {
+            // Duplicates rejected by unique_vote are settled too
+            List<Long> sequences = new ArrayList<>(batch.size());
+            List<PendingVote> unsettled = new ArrayList<>();
+            for (PendingVote pending : batch) {
+                if (pending.settled && pending.sequence >= 0) {
+                    sequences.add(pending.sequence);
+                } else if (!pending.settled && pending.durable) {
+                    unsettled.add(pending);
+                }
+            }
+            voteJournal.resolve(sequences);
+            if (!unsettled.isEmpty()) {
+                scheduleRetry(unsettled, 1);
+            }
+        }
+
+        recordBatch(committed.size(), System.nanoTime() - start);
+
+        for (PendingVote pending : batch) {
+            if (pending.settled) {
+                // A retried ballot's caller was already answered, so its completion no longer frees the key
+                inFlight.remove(pending.key);
+            }
+        }
+        for (PendingVote pending : committed) {
+            pending.result.complete(pending.vote);
+        }
+        for (PendingVote pending : committed) {
+            Vote vote = pending.vote;
+            try {
+                eventPublisher.publishEvent(new VoteCommittedEvent(vote.getId(), vote.getVoter().getId(),
+                        vote.getElection().getId(), vote.getCandidate().getId(), vote.getVotedAt()));
+            } catch (RuntimeException e) {
+                listenerFailures.incrementAndGet();
+                logger.error("Vote committed listener failed for vote {}: {}", vote.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * A duplicate ballot poisoned the batch; isolate it by committing one at a time
+     */
+    private List<PendingVote> commitIndividually(List<PendingVote> batch) {
+        resetIds(batch);
+        List<PendingVote> committed = new ArrayList<>(batch.size());
+        for (PendingVote pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+                pending.settled = true;
+                committed.add(pending);
+            } catch (RuntimeException single) {
+                pending.settled = single instanceof DataIntegrityViolationException;
+                pending.vote.setId(null);
+                votesFailed.incrementAndGet();
+                pending.result.completeExceptionally(single);
+            }
+        }
+        return committed;
+    }
+
+    private void resetIds(List<PendingVote> batch) {
+        // Ids assigned inside a rolled-back transaction must not leak into the retry
+        for (PendingVote pending : batch) {
+            pending.vote.setId(null);
+        }
+    }
+
+    private void persist(List<PendingVote> batch) {
+        List<Vote> votes = new ArrayList<>(batch.size());
+        for (PendingVote pending : batch) {
+            votes.add(pending.vote);
+        }
+        voteRepository.saveAll(votes);
+
+        for (PendingVote pending : batch) {
+            auditLogService.logSuccess(pending.voter, AuditLog.ActionType.VOTE_CAST,
+                    "Vote cast successfully", pending.auditDetails, pending.ipAddress);
+        }
+    }
+
+    private void failAll(List<PendingVote> batch, Exception cause) {
+        for (PendingVote pending : batch) {
+            if (pending.result.completeExceptionally(cause)) {
+                votesFailed.incrementAndGet();
+            }
+        }
+    }
+
+    private void recordBatch(int size, long elapsedNanos) {
+        batches.incrementAndGet();
+        votesCommitted.addAndGet(size);
+        lastBatchSize.set(size);
+        largestBatchSize.accumulateAndGet(size, Math::max);
+        totalCommitNanos.addAndGet(elapsedNanos);
+        lastCommitNanos.set(elapsedNanos);
+        maxCommitNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+        logger.debug("Committed vote batch: size={}, latency={}ms", size, elapsedNanos / 1_000_000.0);
+    }
+
+    /**
+     * Whether ballots for the election have been accepted but not yet committed,
+     * including journaled ones still being retried
+     */
+    public boolean hasPendingFor(Long electionId) {
+        String suffix = ":" + electionId;
+        for (String key : inFlight) {
+            if (key.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long batchCount = batches.get();
+
+        metrics.put("enabled", enabled);
+        metrics.put("queueDepth", queue != null ? queue.size() : 0);
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("maxBatchSize", maxBatchSize);
+        metrics.put("maxLingerMs", maxLingerMs);
+        metrics.put("batches", batchCount);
+        metrics.put("votesCommitted", votesCommitted.get());
+        metrics.put("votesFailed", votesFailed.get());
+        metrics.put("journalAcknowledged", journalAcknowledged.get());
+        metrics.put("dbRetries", dbRetries.get());
+        metrics.put("listenerFailures", listenerFailures.get());
+        metrics.put("lastBatchSize", lastBatchSize.get());
+        metrics.put("largestBatchSize", largestBatchSize.get());
+        metrics.put("averageBatchSize", batchCount == 0 ? 0.0 : (double) votesCommitted.get() / batchCount);
+        metrics.put("lastCommitLatencyMs", lastCommitNanos.get() / 1_000_000.0);
+        metrics.put("maxCommitLatencyMs", maxCommitNanos.get() / 1_000_000.0);
+        metrics.put("averageCommitLatencyMs", batchCount == 0 ? 0.0 : totalCommitNanos.get() / 1_000_000.0 / batchCount);
+
+        return metrics;
+    }
+
+    private static class PendingVote {
+        private final String key;
+        private final Vote vote;
+        private final User voter;
+        private final String auditDetails;
+        private final String ipAddress;
+        private final CompletableFuture<Vote> result = new CompletableFuture<>();
+        private long sequence = -1;
+        private volatile boolean settled;
+        private volatile boolean durable;
+
+        PendingVote(String key, Vote vote, User voter, String auditDetails, String ipAddress) {
+            this.key = key;
+            this.vote = vote;
+            this.voter = voter;
+            this.auditDetails = auditDetails;
+            this.ipAddress = ipAddress;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.votingsystem.service;
+
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.model.Election;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-election compressed bitmaps of voter user ids that have a committed vote.
+ * The unique_vote constraint stays the final guard; this only answers the read path.
+ */
+@Component
+public class VotedBitmapRegistry {
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+
+    private final Map<Long, ElectionBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmActiveElections() {
+        for (Election election : electionRepository.findByStatus(Election.ElectionStatus.ACTIVE)) {
+            warm(election.getId());
+        }
+    }
+
+    public void warm(Long electionId) {
+        bitmapFor(electionId);
+    }
+
+    public void evict(Long electionId) {
+        bitmaps.remove(electionId);
+    }
+
+    /**
+     * Bitmaps are only built for active elections; other existing elections are answered
+     * from the votes table and unknown ids are not registered at all
+     */
+    public boolean hasVoted(Long voterId, Long electionId) {
+        ElectionBitmap bitmap = bitmaps.get(electionId);
+        if (bitmap == null) {
+            Optional<Election> election = electionMetadataCache.getElection(electionId);
+            if (election.isEmpty()) {
+                return false;
+            }
+            if (election.get().getStatus() != Election.ElectionStatus.ACTIVE) {
+                return voteRepository.existsByVoterIdAndElectionId(voterId, electionId);
+            }
+            bitmap = bitmapFor(electionId);
+        }
+        if (!bitmap.ready) {
+            // Another thread is still warming this election
+            return voteRepository.existsByVoterIdAndElectionId(voterId, electionId);
+        }
+        return bitmap.contains(voterId);
+    }
+
+    @EventListener
+    public void onVoteCommitted(VoteCommittedEvent event) {
+        ElectionBitmap bitmap = bitmaps.get(event.electionId());
+        if (bitmap != null) {
+            bitmap.add(event.voterId());
+        }
+    }
+
+    public Map<String, Object> getFootprint() {
+        Map<String, Object> footprint = new LinkedHashMap<>();
+        List<Map<String, Object>> elections = new ArrayList<>();
+        long totalBytes = 0;
+
+        for (Map.Entry<Long, ElectionBitmap> entry : bitmaps.entrySet()) {
+            long bytes = entry.getValue().sizeInBytes();
+            totalBytes += bytes;
+
+            Map<String, Object> election = new LinkedHashMap<>();
+            election.put("electionId", entry.getKey());
+            election.put("voters", entry.getValue().cardinality());
+            election.put("bytes", bytes);
+            elections.add(election);
+        }
+
+        footprint.put("elections", elections);
+        footprint.put("totalBytes", totalBytes);
+        return footprint;
+    }
+
+    private ElectionBitmap bitmapFor(Long electionId) {
+        ElectionBitmap bitmap = bitmaps.get(electionId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        // Register before loading so votes committed during the load are not lost
+        ElectionBitmap created = new ElectionBitmap();
+        bitmap = bitmaps.putIfAbsent(electionId, created);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        try {
+            created.addAll(voteRepository.findVoterIdsByElectionId(electionId));
+            created.ready = true;
+        } catch (RuntimeException e) {
+            bitmaps.remove(electionId, created);
+            throw e;
+        }
+        return created;
+    }
+
+    private static class ElectionBitmap {
+        private final Roaring64NavigableMap voters = new Roaring64NavigableMap();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean ready;
+
+        boolean contains(long voterId) {
+            lock.readLock().lock();
+            try {
+                return voters.contains(voterId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(long voterId) {
+            lock.writeLock().lock();
+            try {
+                voters.addLong(voterId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void addAll(List<Long> voterIds) {
+            lock.writeLock().lock();
+            try {
+                for (Long voterId : voterIds) {
+                    voters.addLong(voterId);
+                }
+                voters.runOptimize();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long cardinality() {
+            lock.readLock().lock();
+            try {
+                return voters.getLongCardinality();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long sizeInBytes() {
+            lock.readLock().lock();
+            try {
+                return voters.getLongSizeInBytes();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
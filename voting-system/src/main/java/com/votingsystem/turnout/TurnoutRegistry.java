@@ -0,0 +1,354 @@
+package com.votingsystem.turnout;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.votingsystem.event.ElectionStatusChangedEvent;
+import com.votingsystem.event.VoteCommittedEvent;
+import com.votingsystem.model.Election;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import com.votingsystem.service.ElectionMetadataCache;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Turnout series of every election, so turnout over time never scans the votes table.
+ * <p>
+ * Active elections keep a live series fed by committed votes. When an election
+ * closes its series is written to a file in the turnout directory and later served
+ * from there; elections without a series yet are counted from the votes table once.
+ */
+@Component
+public class TurnoutRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurnoutRegistry.class);
+
+    private static final String FILE_PREFIX = "election-";
+    private static final String FILE_SUFFIX = ".turnout";
+    private static final int MAX_BUCKET_MINUTES = 1440;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${voting.turnout.directory:data/turnout}")
+    private String directory;
+
+    @Value("${voting.turnout.capacity-minutes:10080}")
+    private int capacityMinutes;
+
+    @Value("${voting.turnout.closed-cache-size:64}")
+    private long closedCacheSize;
+
+    private Path turnoutDir;
+    private final Map<Long, LiveSeries> live = new ConcurrentHashMap<>();
+    private Cache<Long, TurnoutSeries> closed;
+    private TransactionTemplate loadTransaction;
+
+    // Metrics
+    private final AtomicLong votesRecorded = new AtomicLong();
+    private final AtomicLong databaseLoads = new AtomicLong();
+    private final AtomicLong fileLoads = new AtomicLong();
+    private final AtomicLong filesWritten = new AtomicLong();
+
+    @PostConstruct
+    public void open() throws IOException {
+        turnoutDir = Path.of(directory);
+        Files.createDirectories(turnoutDir);
+        closed = Caffeine.newBuilder()
+                .maximumSize(closedCacheSize)
+                .build();
+        // One snapshot for the counts and for checking which buffered votes they include
+        loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        loadTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmActiveElections() {
+        for (Election election : electionRepository.findByStatus(Election.ElectionStatus.ACTIVE)) {
+            liveSeriesFor(election);
+        }
+    }
+
+    @EventListener
+    public void onVoteCommitted(VoteCommittedEvent event) {
+        LiveSeries series = live.get(event.electionId());
+        if (series != null) {
+            series.record(event);
+            votesRecorded.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        for (Long electionId : event.electionIds()) {
+            if (event.status() == Election.ElectionStatus.ACTIVE) {
+                electionRepository.findById(electionId).ifPresent(this::liveSeriesFor);
+            } else if (event.status() == Election.ElectionStatus.COMPLETED) {
+                close(electionId);
+            }
+        }
+    }
+
+    /**
+     * Series of an election: live while it is active, otherwise from its file
+     */
+    public TurnoutSeries getSeries(Long electionId) {
+        LiveSeries series = live.get(electionId);
+        if (series == null) {
+            Election election = electionMetadataCache.getElection(electionId)
+                    .orElseThrow(() -> new RuntimeException("Election not found"));
+            if (election.getStatus() != Election.ElectionStatus.ACTIVE) {
+                return closed.get(electionId, id -> loadClosed(election));
+            }
+            series = liveSeriesFor(election);
+        }
+        if (!series.ready) {
+            // Another thread is still loading this election
+            return loadFromDatabase(series.election, capacityMinutes);
+        }
+        return series.series;
+    }
+
+    /**
+     * Votes per bucket with the running total, plus the election's total
+     */
+    public Map<String, Object> getTurnout(Long electionId, int bucketMinutes) {
+        if (bucketMinutes < 1 || bucketMinutes > MAX_BUCKET_MINUTES) {
+            throw new RuntimeException("Bucket size must be between 1 and " + MAX_BUCKET_MINUTES + " minutes");
+        }
+        TurnoutSeries series = getSeries(electionId);
+        List<TurnoutSeries.Bucket> buckets = series.buckets(bucketMinutes);
+
+        Map<String, Object> turnout = new LinkedHashMap<>();
+        turnout.put("electionId", electionId);
+        turnout.put("totalVotes", series.getTotal());
+        turnout.put("from", series.getFirstMinute());
+        turnout.put("to", series.getLastMinute());
+        turnout.put("bucketMinutes", bucketMinutes);
+        turnout.put("buckets", buckets);
+        return turnout;
+    }
+
+    /**
+     * Votes cast in [from, to), at minute resolution
+     */
+    public long countBetween(Long electionId, LocalDateTime from, LocalDateTime to) {
+        return getSeries(electionId).countBetween(from, to);
+    }
+
+    /**
+     * Drop a deleted election's series and its file
+     */
+    public void evict(Long electionId) {
+        live.remove(electionId);
+        closed.invalidate(electionId);
+        try {
+            Files.deleteIfExists(fileFor(electionId));
+        } catch (IOException e) {
+            logger.warn("Could not delete turnout file of election {}: {}", electionId, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("liveSeries", live.size());
+        metrics.put("closedSeriesCached", closed.estimatedSize());
+        metrics.put("capacityMinutes", capacityMinutes);
+        metrics.put("votesRecorded", votesRecorded.get());
+        metrics.put("databaseLoads", databaseLoads.get());
+        metrics.put("fileLoads", fileLoads.get());
+        metrics.put("filesWritten", filesWritten.get());
+        return metrics;
+    }
+
+    private void close(Long electionId) {
+        LiveSeries liveSeries = live.remove(electionId);
+        TurnoutSeries series;
+        if (liveSeries != null && liveSeries.ready) {
+            series = liveSeries.series;
+        } else {
+            Election election = electionRepository.findById(electionId).orElse(null);
+            if (election == null) {
+                return;
+            }
+            series = loadFromDatabase(election, 0);
+        }
+        persist(electionId, series);
+        closed.put(electionId, series);
+    }
+
+    private TurnoutSeries loadClosed(Election election) {
+        Path file = fileFor(election.getId());
+        if (Files.exists(file)) {
+            try {
+                TurnoutSeries series = TurnoutSeriesFile.read(file, election.getId(), 1);
+                fileLoads.incrementAndGet();
+                return series;
+            } catch (IOException e) {
+                logger.warn("Rebuilding unreadable turnout file {}: {}", file, e.getMessage());
+            }
+        }
+        TurnoutSeries series = loadFromDatabase(election, 0);
+        if (election.getStatus() == Election.ElectionStatus.COMPLETED) {
+            persist(election.getId(), series);
+        }
+        return series;
+    }
+
+    /**
+     * Live series of an active election. It is registered before it is filled from the
+     * votes table, so votes committed during the load are buffered rather than lost.
+     */
+    private LiveSeries liveSeriesFor(Election election) {
+        LiveSeries series = live.get(election.getId());
+        if (series != null) {
+            return series;
+        }
+        LiveSeries created = new LiveSeries(election,
+                new TurnoutSeries(capacityMinutes, originOf(election)));
+        series = live.putIfAbsent(election.getId(), created);
+        if (series != null) {
+            return series;
+        }
+
+        try {
+            loadTransaction.executeWithoutResult(status -> {
+                for (Object[] row : voteRepository.countVotesPerMinuteForElection(election.getId())) {
+                    created.series.add(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+                }
+                while (true) {
+                    List<VoteCommittedEvent> buffered = created.drainOrOpen();
+                    if (buffered.isEmpty()) {
+                        return;
+                    }
+                    List<Long> voteIds = buffered.stream().map(VoteCommittedEvent::voteId).toList();
+                    Set<Long> counted = new HashSet<>(voteRepository.findIdsAmong(election.getId(), voteIds));
+                    for (VoteCommittedEvent event : buffered) {
+                        if (!counted.contains(event.voteId())) {
+                            created.series.record(votedAt(event));
+                        }
+                    }
+                }
+            });
+            databaseLoads.incrementAndGet();
+        } catch (RuntimeException e) {
+            live.remove(election.getId(), created);
+            throw e;
+        }
+        return created;
+    }
+
+    /**
+     * Count an election's votes per minute from the votes table. A capacity of 0 sizes
+     * the ring to hold every minute from the start of the election to its last vote.
+     */
+    private TurnoutSeries loadFromDatabase(Election election, int capacity) {
+        List<Object[]> rows = voteRepository.countVotesPerMinuteForElection(election.getId());
+        long origin = originOf(election);
+        if (!rows.isEmpty()) {
+            origin = Math.min(origin, ((Number) rows.get(0)[0]).longValue());
+        }
+        if (capacity <= 0) {
+            long last = rows.isEmpty() ? origin : ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(last - origin + 1, 1));
+        }
+
+        TurnoutSeries series = new TurnoutSeries(capacity, origin);
+        for (Object[] row : rows) {
+            series.add(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        databaseLoads.incrementAndGet();
+        return series;
+    }
+
+    private void persist(Long electionId, TurnoutSeries series) {
+        try {
+            TurnoutSeriesFile.write(fileFor(electionId), electionId, series);
+            filesWritten.incrementAndGet();
+        } catch (IOException e) {
+            logger.error("Error writing turnout file of election {}: {}", electionId, e.getMessage());
+        }
+    }
+
+    private Path fileFor(Long electionId) {
+        return turnoutDir.resolve(FILE_PREFIX + electionId + FILE_SUFFIX);
+    }
+
+    private static long originOf(Election election) {
+        return TurnoutSeries.toMinute(election.getStartTime() != null ? election.getStartTime() : LocalDateTime.now());
+    }
+
+    private static LocalDateTime votedAt(VoteCommittedEvent event) {
+        return event.votedAt() != null ? event.votedAt() : LocalDateTime.now();
+    }
+
+    /**
+     * Series of an active election, buffering committed votes until its load finishes
+     */
+    private static class LiveSeries {
+        private final Election election;
+        private final TurnoutSeries series;
+        private final List<VoteCommittedEvent> pending = new ArrayList<>();
+        private volatile boolean ready;
+
+        private LiveSeries(Election election, TurnoutSeries series) {
+            this.election = election;
+            this.series = series;
+        }
+
+        void record(VoteCommittedEvent event) {
+            if (!ready) {
+                synchronized (this) {
+                    if (!ready) {
+                        pending.add(event);
+                        return;
+                    }
+                }
+            }
+            series.record(votedAt(event));
+        }
+
+        /**
+         * Take the buffered votes, or mark the series ready if there are none
+         */
+        synchronized List<VoteCommittedEvent> drainOrOpen() {
+            if (pending.isEmpty()) {
+                ready = true;
+                return List.of();
+            }
+            List<VoteCommittedEvent> drained = new ArrayList<>(pending);
+            pending.clear();
+            return drained;
+        }
+    }
+}
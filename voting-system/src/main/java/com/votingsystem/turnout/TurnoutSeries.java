@@ -0,0 +1,181 @@
+package com.votingsystem.turnout;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-minute vote counts of one election in a fixed-size ring of minutes.
+ * <p>
+ * Each slot holds the cumulative vote count up to the end of its minute rather than
+ * the minute's own count, so the votes in any range of retained minutes is the
+ * difference of two slots. Votes almost always land in the newest minute; opening a
+ * new minute copies the running total forward and, once the ring is full, folds the
+ * oldest minute into the baseline. Minutes are wall-clock minutes since the epoch.
+ */
+public final class TurnoutSeries {
+
+    public record Bucket(LocalDateTime start, long votes, long cumulative) {
+    }
+
+    /**
+     * Plain copy of a series, for persisting it
+     */
+    record State(long originMinute, long firstMinute, long baseline, long[] counts) {
+    }
+
+    private final long[] cumulative;
+    private final int capacity;
+    private final long originMinute;
+
+    // Oldest and newest minute in the ring, and the votes before the oldest
+    private long firstMinute;
+    private long lastMinute;
+    private long baseline;
+
+    public TurnoutSeries(int capacity, long originMinute) {
+        this.capacity = capacity;
+        this.cumulative = new long[capacity];
+        this.originMinute = originMinute;
+        this.firstMinute = originMinute;
+        this.lastMinute = originMinute;
+    }
+
+    static TurnoutSeries restore(int capacity, State state) {
+        TurnoutSeries series = new TurnoutSeries(Math.max(capacity, Math.max(state.counts().length, 1)),
+                state.originMinute());
+        series.firstMinute = state.firstMinute();
+        series.lastMinute = state.firstMinute();
+        series.baseline = state.baseline();
+        long total = state.baseline();
+        for (int i = 0; i < state.counts().length; i++) {
+            total += state.counts()[i];
+            series.lastMinute = state.firstMinute() + i;
+            series.cumulative[series.slot(series.lastMinute)] = total;
+        }
+        if (state.counts().length == 0) {
+            series.cumulative[series.slot(series.lastMinute)] = total;
+        }
+        return series;
+    }
+
+    public static long toMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    public static LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    public void record(LocalDateTime votedAt) {
+        add(toMinute(votedAt), 1);
+    }
+
+    /**
+     * Count votes in a minute. Minutes before the series origin count toward the origin;
+     * minutes that have already left the ring only move the baseline.
+     */
+    public synchronized void add(long minute, long votes) {
+        minute = Math.max(minute, originMinute);
+        if (minute > lastMinute) {
+            advanceTo(minute);
+        }
+        if (minute < firstMinute) {
+            baseline += votes;
+            minute = firstMinute;
+        }
+        for (long m = minute; m <= lastMinute; m++) {
+            cumulative[slot(m)] += votes;
+        }
+    }
+
+    /**
+     * Votes cast in [from, to), at minute resolution. Exact while from is within the
+     * retained minutes; earlier starts are clipped to the oldest retained minute.
+     */
+    public synchronized long countBetween(LocalDateTime from, LocalDateTime to) {
+        long fromMinute = toMinute(from);
+        long toMinute = toMinute(to);
+        return toMinute <= fromMinute ? 0 : cumulativeAt(toMinute - 1) - cumulativeAt(fromMinute - 1);
+    }
+
+    /**
+     * Votes per bucket over the retained minutes. Buckets are aligned to multiples of
+     * bucketMinutes since the epoch, so 60 gives calendar hours.
+     */
+    public synchronized List<Bucket> buckets(int bucketMinutes) {
+        List<Bucket> buckets = new ArrayList<>();
+        long start = Math.floorDiv(firstMinute, bucketMinutes) * bucketMinutes;
+        for (long minute = start; minute <= lastMinute; minute += bucketMinutes) {
+            long end = cumulativeAt(minute + bucketMinutes - 1);
+            buckets.add(new Bucket(toDateTime(minute), end - cumulativeAt(minute - 1), end));
+        }
+        return buckets;
+    }
+
+    public synchronized long getTotal() {
+        return cumulative[slot(lastMinute)];
+    }
+
+    public synchronized LocalDateTime getFirstMinute() {
+        return toDateTime(firstMinute);
+    }
+
+    public synchronized LocalDateTime getLastMinute() {
+        return toDateTime(lastMinute);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    synchronized State state() {
+        long[] counts = new long[(int) (lastMinute - firstMinute + 1)];
+        long previous = baseline;
+        for (int i = 0; i < counts.length; i++) {
+            long current = cumulative[slot(firstMinute + i)];
+            counts[i] = current - previous;
+            previous = current;
+        }
+        return new State(originMinute, firstMinute, baseline, counts);
+    }
+
+    private long cumulativeAt(long minute) {
+        if (minute < originMinute) {
+            return 0;
+        }
+        if (minute < firstMinute) {
+            return baseline;
+        }
+        return cumulative[slot(Math.min(minute, lastMinute))];
+    }
+
+    /**
+     * Open the minutes up to and including minute, evicting the oldest once the ring is full
+     */
+    private void advanceTo(long minute) {
+        long total = cumulative[slot(lastMinute)];
+        if (minute - lastMinute >= capacity) {
+            // Every retained minute is pushed out by empty ones
+            Arrays.fill(cumulative, total);
+            baseline = total;
+            firstMinute = minute - capacity + 1;
+            lastMinute = minute;
+            return;
+        }
+        for (long next = lastMinute + 1; next <= minute; next++) {
+            if (next - firstMinute >= capacity) {
+                baseline = cumulative[slot(firstMinute)];
+                firstMinute++;
+            }
+            cumulative[slot(next)] = total;
+        }
+        lastMinute = minute;
+    }
+
+    private int slot(long minute) {
+        return (int) Math.floorMod(minute, (long) capacity);
+    }
+}
@@ -0,0 +1,105 @@
+package com.votingsystem.turnout;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary file of a closed election's turnout series.
+ * <p>
+ * Layout: int magic, int version, long election id, long origin minute, long first
+ * minute, long baseline, int minute count, then one unsigned varint per minute, then
+ * the CRC32 of everything before it. Most minutes hold few votes, so a day of
+ * minutes usually fits in a few kilobytes.
+ */
+final class TurnoutSeriesFile {
+
+    static final int MAGIC = 0x54524E54; // "TRNT"
+    static final int VERSION = 1;
+
+    private TurnoutSeriesFile() {
+    }
+
+    /**
+     * Write the series through a temporary file, so a crash never leaves a partial file
+     */
+    static void write(Path path, Long electionId, TurnoutSeries series) throws IOException {
+        TurnoutSeries.State state = series.state();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            DataOutputStream checked = new DataOutputStream(new CheckedOutputStream(out, crc));
+            checked.writeInt(MAGIC);
+            checked.writeInt(VERSION);
+            checked.writeLong(electionId);
+            checked.writeLong(state.originMinute());
+            checked.writeLong(state.firstMinute());
+            checked.writeLong(state.baseline());
+            checked.writeInt(state.counts().length);
+            for (long count : state.counts()) {
+                writeVarint(checked, count);
+            }
+            checked.flush();
+            out.writeInt((int) crc.getValue());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static TurnoutSeries read(Path path, Long electionId, int capacity) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            DataInputStream checked = new DataInputStream(new CheckedInputStream(in, crc));
+            if (checked.readInt() != MAGIC) {
+                throw new IOException("Not a turnout series file: " + path);
+            }
+            int version = checked.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported turnout series version " + version + ": " + path);
+            }
+            if (checked.readLong() != electionId) {
+                throw new IOException("Turnout series file belongs to another election: " + path);
+            }
+            long originMinute = checked.readLong();
+            long firstMinute = checked.readLong();
+            long baseline = checked.readLong();
+            int minutes = checked.readInt();
+            if (minutes < 0) {
+                throw new IOException("Corrupt turnout series file: " + path);
+            }
+            long[] counts = new long[minutes];
+            for (int i = 0; i < minutes; i++) {
+                counts[i] = readVarint(checked);
+            }
+            long expected = crc.getValue();
+            if ((int) expected != in.readInt()) {
+                throw new IOException("Checksum mismatch in turnout series file: " + path);
+            }
+            return TurnoutSeries.restore(capacity, new TurnoutSeries.State(originMinute, firstMinute, baseline, counts));
+        }
+    }
+
+    private static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarint(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in turnout series file");
+    }
+}
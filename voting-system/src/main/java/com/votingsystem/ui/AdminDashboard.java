@@ -1,491 +1,922 @@
-package com.votingsystem.ui;
-
-import com.votingsystem.model.*;
-import com.votingsystem.service.AdminService;
-import com.votingsystem.service.AuditLogService;
-import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.geometry.Insets;
-import javafx.geometry.Pos;
-import javafx.scene.Scene;
-import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
-import javafx.scene.layout.*;
-import org.jfree.chart.ChartFactory;
-import org.jfree.chart.ChartPanel;
-import org.jfree.chart.JFreeChart;
-import org.jfree.data.category.DefaultCategoryDataset;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-
-import javax.swing.*;
-import java.util.List;
-import java.util.Map;
-
-/**
- * Admin Dashboard - Comprehensive admin panel with sidebar navigation
- */
-@Component
-public class AdminDashboard {
-    
-    @Autowired
-    private AdminService adminService;
-    
-    @Autowired
-    private AuditLogService auditLogService;
-    
-    private Scene scene;
-    private String username;
-    private String token;
-    private BorderPane mainLayout;
-    private StackPane contentArea;
-    private Map<String, Object> dashboardStats;
-    
-    public void initialize(String username, String token) {
-        this.username = username;
-        this.token = token;
-        loadDashboardStats();
-    }
-    
-    public Scene getScene() {
-        if (scene == null) {
-            scene = createAdminScene();
-        }
-        return scene;
-    }
-    
-    private void loadDashboardStats() {
-        new Thread(() -> {
-            dashboardStats = adminService.getDashboardStats();
-            Platform.runLater(this::showDashboardView);
-        }).start();
-    }
-    
-    private Scene createAdminScene() {
-        mainLayout = new BorderPane();
-        mainLayout.setStyle("-fx-background-color: #F4F6F9;");
-        
-        // Top navigation
-        HBox topNav = createTopNav();
-        mainLayout.setTop(topNav);
-        
-        // Sidebar
-        VBox sidebar = createSidebar();
-        mainLayout.setLeft(sidebar);
-        
-        // Content area
-        contentArea = new StackPane();
-        contentArea.setPadding(new Insets(30));
-        mainLayout.setCenter(contentArea);
-        
-        Scene adminScene = new Scene(mainLayout, 1400, 800);
-        adminScene.getStylesheets().add(
-            getClass().getResource("/css/voting-system.css").toExternalForm()
-        );
-        
-        return adminScene;
-    }
-    
-    private HBox createTopNav() {
-        HBox nav = new HBox();
-        nav.setPadding(new Insets(16, 32, 16, 32));
-        nav.setAlignment(Pos.CENTER_LEFT);
-        nav.setStyle("-fx-background-color: #0A1F44;");
-        
-        Label title = new Label("🛡️ Admin Panel - Voting System");
-        title.setStyle(
-            "-fx-text-fill: white; " +
-            "-fx-font-size: 20px; " +
-            "-fx-font-weight: bold;"
-        );
-        
-        Region spacer = new Region();
-        HBox.setHgrow(spacer, Priority.ALWAYS);
-        
-        Label adminLabel = new Label("Admin: " + username);
-        adminLabel.setStyle("-fx-text-fill: white; -fx-font-size: 14px;");
-        
-        Button logoutBtn = new Button("Logout");
-        logoutBtn.setStyle(
-            "-fx-background-color: transparent; " +
-            "-fx-text-fill: white; " +
-            "-fx-border-color: white; " +
-            "-fx-border-width: 1px; " +
-            "-fx-border-radius: 4px; " +
-            "-fx-background-radius: 4px; " +
-            "-fx-padding: 8px 16px; " +
-            "-fx-cursor: hand;"
-        );
-        logoutBtn.setOnAction(e -> VotingSystemApplication.showLoginScreen());
-        
-        nav.getChildren().addAll(title, spacer, adminLabel, new Label("  "), logoutBtn);
-        return nav;
-    }
-    
-    private VBox createSidebar() {
-        VBox sidebar = new VBox();
-        sidebar.getStyleClass().add("sidebar");
-        sidebar.setStyle("-fx-background-color: #0A1F44; -fx-min-width: 250px;");
-        
-        Button dashboardBtn = createSidebarButton("📊 Dashboard", true);
-        dashboardBtn.setOnAction(e -> showDashboardView());
-        
-        Button electionsBtn = createSidebarButton("🗳️ Manage Elections", false);
-        electionsBtn.setOnAction(e -> showElectionsView());
-        
-        Button candidatesBtn = createSidebarButton("👤 Manage Candidates", false);
-        candidatesBtn.setOnAction(e -> showCandidatesView());
-        
-        Button votersBtn = createSidebarButton("👥 Manage Voters", false);
-        votersBtn.setOnAction(e -> showVotersView());
-        
-        Button resultsBtn = createSidebarButton("📈 Results", false);
-        resultsBtn.setOnAction(e -> showResultsView());
-        
-        Button logsBtn = createSidebarButton("🔐 Security Logs", false);
-        logsBtn.setOnAction(e -> showLogsView());
-        
-        sidebar.getChildren().addAll(
-            dashboardBtn, electionsBtn, candidatesBtn, 
-            votersBtn, resultsBtn, logsBtn
-        );
-        
-        return sidebar;
-    }
-    
-    private Button createSidebarButton(String text, boolean active) {
-        Button btn = new Button(text);
-        btn.setMaxWidth(Double.MAX_VALUE);
-        btn.setAlignment(Pos.CENTER_LEFT);
-        btn.getStyleClass().add("sidebar-item");
-        btn.setStyle(
-            "-fx-background-color: " + (active ? "#1F4FD8" : "transparent") + "; " +
-            "-fx-text-fill: white; " +
-            "-fx-font-size: 14px; " +
-            "-fx-padding: 16px 24px; " +
-            "-fx-cursor: hand; " +
-            "-fx-border-width: 0;"
-        );
-        
-        btn.setOnMouseEntered(e -> {
-            if (!active) {
-                btn.setStyle(btn.getStyle() + "-fx-background-color: rgba(255,255,255,0.1);");
-            }
-        });
-        
-        btn.setOnMouseExited(e -> {
-            if (!active) {
-                btn.setStyle(btn.getStyle().replace("-fx-background-color: rgba(255,255,255,0.1);", ""));
-            }
-        });
-        
-        return btn;
-    }
-    
-    private void showDashboardView() {
-        VBox content = new VBox(25);
-        content.setAlignment(Pos.TOP_LEFT);
-        
-        Label title = new Label("Dashboard Overview");
-        title.setStyle(
-            "-fx-font-size: 28px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: #0A1F44;"
-        );
-        
-        // Stats cards
-        GridPane statsGrid = createStatsGrid();
-        
-        content.getChildren().addAll(title, statsGrid);
-        
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(content);
-    }
-    
-    private GridPane createStatsGrid() {
-        GridPane grid = new GridPane();
-        grid.setHgap(20);
-        grid.setVgap(20);
-        
-        if (dashboardStats != null) {
-            grid.add(createStatCard("Total Voters", dashboardStats.get("totalVoters").toString(), "#1F4FD8"), 0, 0);
-            grid.add(createStatCard("Verified Voters", dashboardStats.get("verifiedVoters").toString(), "#2ECC71"), 1, 0);
-            grid.add(createStatCard("Pending Voters", dashboardStats.get("pendingVoters").toString(), "#F39C12"), 2, 0);
-            grid.add(createStatCard("Total Elections", dashboardStats.get("totalElections").toString(), "#0A1F44"), 0, 1);
-            grid.add(createStatCard("Active Elections", dashboardStats.get("activeElections").toString(), "#2ECC71"), 1, 1);
-            grid.add(createStatCard("Total Votes Cast", dashboardStats.get("totalVotes").toString(), "#1F4FD8"), 2, 1);
-        }
-        
-        return grid;
-    }
-    
-    private VBox createStatCard(String label, String value, String color) {
-        VBox card = new VBox(10);
-        card.setAlignment(Pos.CENTER_LEFT);
-        card.setPadding(new Insets(24));
-        card.setMinWidth(200);
-        card.setStyle(
-            "-fx-background-color: white; " +
-            "-fx-background-radius: 8px; " +
-            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.08), 10, 0, 0, 2);"
-        );
-        
-        Label valueLabel = new Label(value);
-        valueLabel.setStyle(
-            "-fx-font-size: 32px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: " + color + ";"
-        );
-        
-        Label labelText = new Label(label);
-        labelText.setStyle(
-            "-fx-font-size: 14px; " +
-            "-fx-text-fill: #6B7280;"
-        );
-        
-        card.getChildren().addAll(valueLabel, labelText);
-        return card;
-    }
-    
-    private void showElectionsView() {
-        VBox content = new VBox(20);
-        
-        Label title = new Label("Manage Elections");
-        title.setStyle(
-            "-fx-font-size: 28px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: #0A1F44;"
-        );
-        
-        Button addButton = new Button("+ Add New Election");
-        addButton.setStyle(
-            "-fx-background-color: #1F4FD8; " +
-            "-fx-text-fill: white; " +
-            "-fx-font-weight: 600; " +
-            "-fx-padding: 12px 24px; " +
-            "-fx-background-radius: 6px; " +
-            "-fx-cursor: hand;"
-        );
-        addButton.setOnAction(e -> showAddElectionDialog());
-        
-        TableView<Election> table = createElectionsTable();
-        
-        content.getChildren().addAll(title, addButton, table);
-        
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(content);
-    }
-    
-    private TableView<Election> createElectionsTable() {
-        TableView<Election> table = new TableView<>();
-        table.setStyle(
-            "-fx-background-color: white; " +
-            "-fx-border-color: #D1D5DB; " +
-            "-fx-border-width: 1px; " +
-            "-fx-border-radius: 6px;"
-        );
-        
-        TableColumn<Election, String> nameCol = new TableColumn<>("Election Name");
-        nameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
-        nameCol.setMinWidth(200);
-        
-        TableColumn<Election, String> typeCol = new TableColumn<>("Type");
-        typeCol.setCellValueFactory(new PropertyValueFactory<>("type"));
-        
-        TableColumn<Election, String> statusCol = new TableColumn<>("Status");
-        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
-        
-        TableColumn<Election, Void> actionsCol = new TableColumn<>("Actions");
-        actionsCol.setCellFactory(param -> new TableCell<>() {
-            private final Button editBtn = new Button("Edit");
-            private final Button deleteBtn = new Button("Delete");
-            
-            {
-                editBtn.setStyle(
-                    "-fx-background-color: #1F4FD8; " +
-                    "-fx-text-fill: white; " +
-                    "-fx-padding: 6px 12px; " +
-                    "-fx-background-radius: 4px; " +
-                    "-fx-cursor: hand;"
-                );
-                
-                deleteBtn.setStyle(
-                    "-fx-background-color: #E74C3C; " +
-                    "-fx-text-fill: white; " +
-                    "-fx-padding: 6px 12px; " +
-                    "-fx-background-radius: 4px; " +
-                    "-fx-cursor: hand;"
-                );
-            }
-            
-            @Override
-            protected void updateItem(Void item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty) {
-                    setGraphic(null);
-                } else {
-                    HBox buttons = new HBox(10, editBtn, deleteBtn);
-                    setGraphic(buttons);
-                }
-            }
-        });
-        
-        table.getColumns().addAll(nameCol, typeCol, statusCol, actionsCol);
-        
-        // Load data
-        new Thread(() -> {
-            List<Election> elections = adminService.getAllElections();
-            Platform.runLater(() -> {
-                ObservableList<Election> data = FXCollections.observableArrayList(elections);
-                table.setItems(data);
-            });
-        }).start();
-        
-        return table;
-    }
-    
-    private void showAddElectionDialog() {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle("Add Election");
-        alert.setHeaderText("Add New Election");
-        alert.setContentText("Election creation form will be implemented here.");
-        alert.showAndWait();
-    }
-    
-    private void showCandidatesView() {
-        showPlaceholder("Manage Candidates", "Candidate management interface");
-    }
-    
-    private void showVotersView() {
-        VBox content = new VBox(20);
-        
-        Label title = new Label("Manage Voters");
-        title.setStyle(
-            "-fx-font-size: 28px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: #0A1F44;"
-        );
-        
-        TableView<Voter> table = createVotersTable();
-        
-        content.getChildren().addAll(title, table);
-        
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(content);
-    }
-    
-    private TableView<Voter> createVotersTable() {
-        TableView<Voter> table = new TableView<>();
-        table.setStyle(
-            "-fx-background-color: white; " +
-            "-fx-border-color: #D1D5DB; " +
-            "-fx-border-width: 1px; " +
-            "-fx-border-radius: 6px;"
-        );
-        
-        TableColumn<Voter, String> idCol = new TableColumn<>("Voter ID");
-        idCol.setCellValueFactory(new PropertyValueFactory<>("voterId"));
-        
-        TableColumn<Voter, String> nameCol = new TableColumn<>("Full Name");
-        nameCol.setCellValueFactory(new PropertyValueFactory<>("fullName"));
-        nameCol.setMinWidth(200);
-        
-        TableColumn<Voter, String> statusCol = new TableColumn<>("Status");
-        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
-        
-        TableColumn<Voter, Boolean> verifiedCol = new TableColumn<>("Verified");
-        verifiedCol.setCellValueFactory(new PropertyValueFactory<>("verified"));
-        
-        table.getColumns().addAll(idCol, nameCol, statusCol, verifiedCol);
-        
-        // Load data
-        new Thread(() -> {
-            List<Voter> voters = adminService.getAllVoters();
-            Platform.runLater(() -> {
-                ObservableList<Voter> data = FXCollections.observableArrayList(voters);
-                table.setItems(data);
-            });
-        }).start();
-        
-        return table;
-    }
-    
-    private void showResultsView() {
-        showPlaceholder("Election Results", "Results visualization with charts");
-    }
-    
-    private void showLogsView() {
-        VBox content = new VBox(20);
-        
-        Label title = new Label("Security Audit Logs");
-        title.setStyle(
-            "-fx-font-size: 28px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: #0A1F44;"
-        );
-        
-        TableView<AuditLog> table = createLogsTable();
-        
-        content.getChildren().addAll(title, table);
-        
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(content);
-    }
-    
-    private TableView<AuditLog> createLogsTable() {
-        TableView<AuditLog> table = new TableView<>();
-        table.setStyle(
-            "-fx-background-color: white; " +
-            "-fx-border-color: #D1D5DB; " +
-            "-fx-border-width: 1px; " +
-            "-fx-border-radius: 6px;"
-        );
-        
-        TableColumn<AuditLog, String> actionCol = new TableColumn<>("Action");
-        actionCol.setCellValueFactory(new PropertyValueFactory<>("action"));
-        actionCol.setMinWidth(200);
-        
-        TableColumn<AuditLog, String> typeCol = new TableColumn<>("Type");
-        typeCol.setCellValueFactory(new PropertyValueFactory<>("actionType"));
-        
-        TableColumn<AuditLog, String> severityCol = new TableColumn<>("Severity");
-        severityCol.setCellValueFactory(new PropertyValueFactory<>("severity"));
-        
-        TableColumn<AuditLog, String> ipCol = new TableColumn<>("IP Address");
-        ipCol.setCellValueFactory(new PropertyValueFactory<>("ipAddress"));
-        
-        table.getColumns().addAll(actionCol, typeCol, severityCol, ipCol);
-        
-        // Load data
-        new Thread(() -> {
-            List<AuditLog> logs = auditLogService.getRecentLogs(0, 50).getContent();
-            Platform.runLater(() -> {
-                ObservableList<AuditLog> data = FXCollections.observableArrayList(logs);
-                table.setItems(data);
-            });
-        }).start();
-        
-        return table;
-    }
-    
-    private void showPlaceholder(String titleText, String description) {
-        VBox content = new VBox(20);
-        content.setAlignment(Pos.CENTER);
-        
-        Label title = new Label(titleText);
-        title.setStyle(
-            "-fx-font-size: 28px; " +
-            "-fx-font-weight: bold; " +
-            "-fx-text-fill: #0A1F44;"
-        );
-        
-        Label desc = new Label(description);
-        desc.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
-        
-        content.getChildren().addAll(title, desc);
-        
-        contentArea.getChildren().clear();
-        contentArea.getChildren().add(content);
-    }
-}
+package com.votingsystem.ui;
+
+import com.votingsystem.dto.AuditLogFilter;
+import com.votingsystem.dto.AuditLogSlice;
+import com.votingsystem.dto.BulkVoterRequest;
+import com.votingsystem.dto.LiveResultsFrame;
+import com.votingsystem.dto.VoterFilter;
+import com.votingsystem.dto.VoterResponse;
+import com.votingsystem.dto.VoterSlice;
+import com.votingsystem.model.*;
+import com.votingsystem.service.AdminService;
+import com.votingsystem.service.AuditLogService;
+import com.votingsystem.service.LiveResultsBroadcaster;
+import com.votingsystem.turnout.TurnoutRegistry;
+import com.votingsystem.turnout.TurnoutSeries;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.*;
+import javafx.util.StringConverter;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.swing.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Admin Dashboard - Comprehensive admin panel with sidebar navigation
+ */
+@Component
+public class AdminDashboard {
+    
+    private static final int LOG_PAGE_SIZE = 50;
+    private static final int VOTER_PAGE_SIZE = 100;
+    private static final DateTimeFormatter RECONCILED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    @Autowired
+    private AdminService adminService;
+    
+    @Autowired
+    private AuditLogService auditLogService;
+    
+    @Autowired
+    private LiveResultsBroadcaster liveResultsBroadcaster;
+    
+    @Autowired
+    private TurnoutRegistry turnoutRegistry;
+    
+    private Scene scene;
+    private String username;
+    private String token;
+    private BorderPane mainLayout;
+    private StackPane contentArea;
+    private Map<String, Object> dashboardStats;
+    private LiveResultsBroadcaster.Subscription resultsSubscription;
+    private Long resultsElectionId;
+    
+    // Live chart rendering, kept off the broadcaster's send threads
+    private final ExecutorService chartRenderer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "admin-results-chart");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public void initialize(String username, String token) {
+        this.username = username;
+        this.token = token;
+        loadDashboardStats();
+    }
+    
+    public Scene getScene() {
+        if (scene == null) {
+            scene = createAdminScene();
+        }
+        return scene;
+    }
+    
+    private void loadDashboardStats() {
+        new Thread(() -> {
+            dashboardStats = adminService.getDashboardStats();
+            Platform.runLater(this::showDashboardView);
+        }).start();
+    }
+    
+    private Scene createAdminScene() {
+        mainLayout = new BorderPane();
+        mainLayout.setStyle("-fx-background-color: #F4F6F9;");
+        
+        // Top navigation
+        HBox topNav = createTopNav();
+        mainLayout.setTop(topNav);
+        
+        // Sidebar
+        VBox sidebar = createSidebar();
+        mainLayout.setLeft(sidebar);
+        
+        // Content area
+        contentArea = new StackPane();
+        contentArea.setPadding(new Insets(30));
+        mainLayout.setCenter(contentArea);
+        
+        Scene adminScene = new Scene(mainLayout, 1400, 800);
+        adminScene.getStylesheets().add(
+            getClass().getResource("/css/voting-system.css").toExternalForm()
+        );
+        
+        return adminScene;
+    }
+    
+    private HBox createTopNav() {
+        HBox nav = new HBox();
+        nav.setPadding(new Insets(16, 32, 16, 32));
+        nav.setAlignment(Pos.CENTER_LEFT);
+        nav.setStyle("-fx-background-color: #0A1F44;");
+        
+        Label title = new Label("🛡️ Admin Panel - Voting System");
+        title.setStyle(
+            "-fx-text-fill: white; " +
+            "-fx-font-size: 20px; " +
+            "-fx-font-weight: bold;"
+        );
+        
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        
+        Label adminLabel = new Label("Admin: " + username);
+        adminLabel.setStyle("-fx-text-fill: white; -fx-font-size: 14px;");
+        
+        Button logoutBtn = new Button("Logout");
+        logoutBtn.setStyle(
+            "-fx-background-color: transparent; " +
+            "-fx-text-fill: white; " +
+            "-fx-border-color: white; " +
+            "-fx-border-width: 1px; " +
+            "-fx-border-radius: 4px; " +
+            "-fx-background-radius: 4px; " +
+            "-fx-padding: 8px 16px; " +
+            "-fx-cursor: hand;"
+        );
+        logoutBtn.setOnAction(e -> VotingSystemApplication.showLoginScreen());
+        
+        nav.getChildren().addAll(title, spacer, adminLabel, new Label("  "), logoutBtn);
+        return nav;
+    }
+    
+    private VBox createSidebar() {
+        VBox sidebar = new VBox();
+        sidebar.getStyleClass().add("sidebar");
+        sidebar.setStyle("-fx-background-color: #0A1F44; -fx-min-width: 250px;");
+        
+        Button dashboardBtn = createSidebarButton("📊 Dashboard", true);
+        // Counters are kept in memory, so fetching them on every visit is cheap
+        dashboardBtn.setOnAction(e -> loadDashboardStats());
+        
+        Button electionsBtn = createSidebarButton("🗳️ Manage Elections", false);
+        electionsBtn.setOnAction(e -> showElectionsView());
+        
+        Button candidatesBtn = createSidebarButton("👤 Manage Candidates", false);
+        candidatesBtn.setOnAction(e -> showCandidatesView());
+        
+        Button votersBtn = createSidebarButton("👥 Manage Voters", false);
+        votersBtn.setOnAction(e -> showVotersView());
+        
+        Button resultsBtn = createSidebarButton("📈 Results", false);
+        resultsBtn.setOnAction(e -> showResultsView());
+        
+        Button turnoutBtn = createSidebarButton("⏱️ Turnout", false);
+        turnoutBtn.setOnAction(e -> showTurnoutView());
+        
+        Button logsBtn = createSidebarButton("🔐 Security Logs", false);
+        logsBtn.setOnAction(e -> showLogsView());
+        
+        sidebar.getChildren().addAll(
+            dashboardBtn, electionsBtn, candidatesBtn, 
+            votersBtn, resultsBtn, turnoutBtn, logsBtn
+        );
+        
+        return sidebar;
+    }
+    
+    private Button createSidebarButton(String text, boolean active) {
+        Button btn = new Button(text);
+        btn.setMaxWidth(Double.MAX_VALUE);
+        btn.setAlignment(Pos.CENTER_LEFT);
+        btn.getStyleClass().add("sidebar-item");
+        btn.setStyle(
+            "-fx-background-color: " + (active ? "#1F4FD8" : "transparent") + "; " +
+            "-fx-text-fill: white; " +
+            "-fx-font-size: 14px; " +
+            "-fx-padding: 16px 24px; " +
+            "-fx-cursor: hand; " +
+            "-fx-border-width: 0;"
+        );
+        
+        btn.setOnMouseEntered(e -> {
+            if (!active) {
+                btn.setStyle(btn.getStyle() + "-fx-background-color: rgba(255,255,255,0.1);");
+            }
+        });
+        
+        btn.setOnMouseExited(e -> {
+            if (!active) {
+                btn.setStyle(btn.getStyle().replace("-fx-background-color: rgba(255,255,255,0.1);", ""));
+            }
+        });
+        
+        return btn;
+    }
+    
+    private void showDashboardView() {
+        VBox content = new VBox(25);
+        content.setAlignment(Pos.TOP_LEFT);
+        
+        Label title = new Label("Dashboard Overview");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        // Stats cards
+        GridPane statsGrid = createStatsGrid();
+        
+        Object reconciledAt = dashboardStats != null ? dashboardStats.get("lastReconciledAt") : null;
+        Label reconciledLabel = new Label(reconciledAt instanceof LocalDateTime time
+                ? "Last reconciled with the database at " + time.format(RECONCILED_FORMAT)
+                : "Not yet reconciled with the database");
+        reconciledLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #6B7280;");
+        
+        content.getChildren().addAll(title, statsGrid, reconciledLabel);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    private GridPane createStatsGrid() {
+        GridPane grid = new GridPane();
+        grid.setHgap(20);
+        grid.setVgap(20);
+        
+        if (dashboardStats != null) {
+            grid.add(createStatCard("Total Voters", dashboardStats.get("totalVoters").toString(), "#1F4FD8"), 0, 0);
+            grid.add(createStatCard("Verified Voters", dashboardStats.get("verifiedVoters").toString(), "#2ECC71"), 1, 0);
+            grid.add(createStatCard("Pending Voters", dashboardStats.get("pendingVoters").toString(), "#F39C12"), 2, 0);
+            grid.add(createStatCard("Total Elections", dashboardStats.get("totalElections").toString(), "#0A1F44"), 0, 1);
+            grid.add(createStatCard("Active Elections", dashboardStats.get("activeElections").toString(), "#2ECC71"), 1, 1);
+            grid.add(createStatCard("Total Votes Cast", dashboardStats.get("totalVotes").toString(), "#1F4FD8"), 2, 1);
+        }
+        
+        return grid;
+    }
+    
+    private VBox createStatCard(String label, String value, String color) {
+        VBox card = new VBox(10);
+        card.setAlignment(Pos.CENTER_LEFT);
+        card.setPadding(new Insets(24));
+        card.setMinWidth(200);
+        card.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-background-radius: 8px; " +
+            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.08), 10, 0, 0, 2);"
+        );
+        
+        Label valueLabel = new Label(value);
+        valueLabel.setStyle(
+            "-fx-font-size: 32px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: " + color + ";"
+        );
+        
+        Label labelText = new Label(label);
+        labelText.setStyle(
+            "-fx-font-size: 14px; " +
+            "-fx-text-fill: #6B7280;"
+        );
+        
+        card.getChildren().addAll(valueLabel, labelText);
+        return card;
+    }
+    
+    private void showElectionsView() {
+        VBox content = new VBox(20);
+        
+        Label title = new Label("Manage Elections");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        Button addButton = new Button("+ Add New Election");
+        addButton.setStyle(
+            "-fx-background-color: #1F4FD8; " +
+            "-fx-text-fill: white; " +
+            "-fx-font-weight: 600; " +
+            "-fx-padding: 12px 24px; " +
+            "-fx-background-radius: 6px; " +
+            "-fx-cursor: hand;"
+        );
+        addButton.setOnAction(e -> showAddElectionDialog());
+        
+        TableView<Election> table = createElectionsTable();
+        
+        content.getChildren().addAll(title, addButton, table);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    private TableView<Election> createElectionsTable() {
+        TableView<Election> table = new TableView<>();
+        table.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-border-color: #D1D5DB; " +
+            "-fx-border-width: 1px; " +
+            "-fx-border-radius: 6px;"
+        );
+        
+        TableColumn<Election, String> nameCol = new TableColumn<>("Election Name");
+        nameCol.setCellValueFactory(new PropertyValueFactory<>("name"));
+        nameCol.setMinWidth(200);
+        
+        TableColumn<Election, String> typeCol = new TableColumn<>("Type");
+        typeCol.setCellValueFactory(new PropertyValueFactory<>("type"));
+        
+        TableColumn<Election, String> statusCol = new TableColumn<>("Status");
+        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
+        
+        TableColumn<Election, Void> actionsCol = new TableColumn<>("Actions");
+        actionsCol.setCellFactory(param -> new TableCell<>() {
+            private final Button editBtn = new Button("Edit");
+            private final Button deleteBtn = new Button("Delete");
+            
+            {
+                editBtn.setStyle(
+                    "-fx-background-color: #1F4FD8; " +
+                    "-fx-text-fill: white; " +
+                    "-fx-padding: 6px 12px; " +
+                    "-fx-background-radius: 4px; " +
+                    "-fx-cursor: hand;"
+                );
+                
+                deleteBtn.setStyle(
+                    "-fx-background-color: #E74C3C; " +
+                    "-fx-text-fill: white; " +
+                    "-fx-padding: 6px 12px; " +
+                    "-fx-background-radius: 4px; " +
+                    "-fx-cursor: hand;"
+                );
+            }
+            
+            @Override
+            protected void updateItem(Void item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty) {
+                    setGraphic(null);
+                } else {
+                    HBox buttons = new HBox(10, editBtn, deleteBtn);
+                    setGraphic(buttons);
+                }
+            }
+        });
+        
+        table.getColumns().addAll(nameCol, typeCol, statusCol, actionsCol);
+        
+        // Load data
+        new Thread(() -> {
+            List<Election> elections = adminService.getAllElections();
+            Platform.runLater(() -> {
+                ObservableList<Election> data = FXCollections.observableArrayList(elections);
+                table.setItems(data);
+            });
+        }).start();
+        
+        return table;
+    }
+    
+    private void showAddElectionDialog() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Add Election");
+        alert.setHeaderText("Add New Election");
+        alert.setContentText("Election creation form will be implemented here.");
+        alert.showAndWait();
+    }
+    
+    private void showCandidatesView() {
+        showPlaceholder("Manage Candidates", "Candidate management interface");
+    }
+    
+    private void showVotersView() {
+        VBox content = new VBox(20);
+        
+        Label title = new Label("Manage Voters");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        TableView<VoterResponse> table = createVotersTable();
+        table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        
+        Button verifyButton = createBulkActionButton("✔ Verify Selected", "#2ECC71");
+        verifyButton.setOnAction(e -> runBulkVoterAction(table, true));
+        
+        Button suspendButton = createBulkActionButton("⛔ Suspend Selected", "#E74C3C");
+        suspendButton.setOnAction(e -> runBulkVoterAction(table, false));
+        
+        HBox actions = new HBox(10, verifyButton, suspendButton);
+        
+        content.getChildren().addAll(title, actions, table);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    private Button createBulkActionButton(String text, String color) {
+        Button button = new Button(text);
+        button.setStyle(
+            "-fx-background-color: " + color + "; " +
+            "-fx-text-fill: white; " +
+            "-fx-font-weight: 600; " +
+            "-fx-padding: 12px 24px; " +
+            "-fx-background-radius: 6px; " +
+            "-fx-cursor: hand;"
+        );
+        return button;
+    }
+    
+    private void runBulkVoterAction(TableView<VoterResponse> table, boolean verify) {
+        List<Long> ids = table.getSelectionModel().getSelectedItems().stream()
+                .map(VoterResponse::id)
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        
+        new Thread(() -> {
+            try {
+                BulkVoterRequest request = new BulkVoterRequest(ids, null);
+                User admin = adminService.getAdmin(username);
+                Map<String, Object> result = verify
+                        ? adminService.bulkVerifyVoters(request, admin)
+                        : adminService.bulkSuspendVoters(request, admin);
+                Platform.runLater(() -> {
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle(verify ? "Verify Voters" : "Suspend Voters");
+                    alert.setHeaderText(null);
+                    alert.setContentText(result.get("updated") + " of " + result.get("matched")
+                            + " selected voters " + (verify ? "verified." : "suspended."));
+                    alert.showAndWait();
+                    showVotersView();
+                });
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    Alert alert = new Alert(Alert.AlertType.ERROR);
+                    alert.setTitle("Bulk Action Failed");
+                    alert.setHeaderText(null);
+                    alert.setContentText(e.getMessage());
+                    alert.showAndWait();
+                });
+            }
+        }).start();
+    }
+    
+    private TableView<VoterResponse> createVotersTable() {
+        TableView<VoterResponse> table = new TableView<>();
+        table.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-border-color: #D1D5DB; " +
+            "-fx-border-width: 1px; " +
+            "-fx-border-radius: 6px;"
+        );
+        
+        TableColumn<VoterResponse, String> idCol = new TableColumn<>("Voter ID");
+        idCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().voterId()));
+        
+        TableColumn<VoterResponse, String> nameCol = new TableColumn<>("Full Name");
+        nameCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().fullName()));
+        nameCol.setMinWidth(200);
+        
+        TableColumn<VoterResponse, Voter.VoterStatus> statusCol = new TableColumn<>("Status");
+        statusCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().status()));
+        
+        TableColumn<VoterResponse, Boolean> verifiedCol = new TableColumn<>("Verified");
+        verifiedCol.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().verified()));
+        
+        table.getColumns().addAll(idCol, nameCol, statusCol, verifiedCol);
+        
+        // Load data a keyset page at a time as the table is scrolled
+        VoterScroller scroller = new VoterScroller(table);
+        loadMoreAtBottom(table, scroller::loadMore);
+        scroller.loadMore();
+        
+        return table;
+    }
+    
+    /**
+     * Keyset paging state for one voters table
+     */
+    private class VoterScroller {
+        private final ObservableList<VoterResponse> data = FXCollections.observableArrayList();
+        private Long cursor;
+        private boolean hasMore = true;
+        private boolean loading;
+        
+        VoterScroller(TableView<VoterResponse> table) {
+            table.setItems(data);
+        }
+        
+        // Called on the FX thread only
+        void loadMore() {
+            if (loading || !hasMore) {
+                return;
+            }
+            loading = true;
+            Long position = cursor;
+            
+            new Thread(() -> {
+                try {
+                    VoterSlice slice = adminService.getVotersAfter(VoterFilter.none(), position, VOTER_PAGE_SIZE);
+                    Platform.runLater(() -> {
+                        data.addAll(slice.items());
+                        cursor = slice.nextCursor();
+                        hasMore = slice.hasMore();
+                        loading = false;
+                    });
+                } catch (RuntimeException e) {
+                    Platform.runLater(() -> loading = false);
+                }
+            }).start();
+        }
+    }
+    
+    private void showResultsView() {
+        VBox content = new VBox(20);
+        
+        Label title = new Label("Election Results");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        ComboBox<Election> electionSelect = createElectionSelect();
+        
+        Label totalLabel = new Label();
+        totalLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
+        
+        ImageView chartView = new ImageView();
+        chartView.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                stopResultsStream();
+            }
+        });
+        
+        electionSelect.setOnAction(e -> {
+            Election election = electionSelect.getValue();
+            if (election != null) {
+                loadResultsChart(election.getId(), chartView, totalLabel);
+            }
+        });
+        
+        content.getChildren().addAll(title, electionSelect, totalLabel, chartView);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    /**
+     * Election picker filled in the background with every election
+     */
+    private ComboBox<Election> createElectionSelect() {
+        ComboBox<Election> electionSelect = new ComboBox<>();
+        electionSelect.setPromptText("Select an election");
+        electionSelect.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Election election) {
+                return election == null ? "" : election.getName();
+            }
+            
+            @Override
+            public Election fromString(String name) {
+                return null;
+            }
+        });
+        
+        new Thread(() -> {
+            List<Election> elections = adminService.getAllElections();
+            Platform.runLater(() -> electionSelect.setItems(FXCollections.observableArrayList(elections)));
+        }).start();
+        return electionSelect;
+    }
+    
+    /**
+     * Follow the election's live results stream, redrawing the chart for the latest frame.
+     * The subscriber only copies the frame; rendering runs on the chart thread and skips
+     * frames that arrive while it is busy.
+     */
+    private void loadResultsChart(Long electionId, ImageView chartView, Label totalLabel) {
+        stopResultsStream();
+        Map<Long, LiveResultsFrame.CandidateVotes> candidates = new LinkedHashMap<>();
+        AtomicReference<Runnable> pendingRender = new AtomicReference<>();
+        
+        LiveResultsBroadcaster.Subscriber subscriber = (frame, json) -> {
+            if (frame.type() == LiveResultsFrame.Type.DELTA) {
+                for (LiveResultsFrame.CandidateVotes update : frame.candidates()) {
+                    candidates.computeIfPresent(update.id(), (id, candidate) ->
+                            new LiveResultsFrame.CandidateVotes(id, candidate.name(), candidate.party(), update.votes()));
+                }
+            } else {
+                candidates.clear();
+                frame.candidates().forEach(candidate -> candidates.put(candidate.id(), candidate));
+            }
+            
+            List<LiveResultsFrame.CandidateVotes> rows = List.copyOf(candidates.values());
+            String total = "Total votes: " + frame.totalVotes() + "  (turnout " + frame.turnoutPercent() + "%)"
+                    + (frame.type() == LiveResultsFrame.Type.CLOSED ? "  - final" : "");
+            
+            Runnable render = () -> {
+                DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+                for (LiveResultsFrame.CandidateVotes candidate : rows) {
+                    dataset.addValue(candidate.votes(), "Votes", candidate.name());
+                }
+                JFreeChart chart = ChartFactory.createBarChart(null, "Candidate", "Votes", dataset);
+                Image image = renderChart(chart, 900, 450);
+                Platform.runLater(() -> {
+                    totalLabel.setText(total);
+                    chartView.setImage(image);
+                });
+            };
+            if (pendingRender.getAndSet(render) == null) {
+                chartRenderer.execute(() -> pendingRender.getAndSet(null).run());
+            }
+        };
+        
+        new Thread(() -> {
+            try {
+                LiveResultsBroadcaster.Subscription subscription =
+                        liveResultsBroadcaster.subscribe(electionId, null, subscriber);
+                Platform.runLater(() -> {
+                    // The view was left or another election picked while subscribing
+                    if (chartView.getScene() == null || !electionId.equals(resultsElectionId)) {
+                        subscription.cancel();
+                    } else {
+                        if (resultsSubscription != null) {
+                            resultsSubscription.cancel();
+                        }
+                        resultsSubscription = subscription;
+                    }
+                });
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> totalLabel.setText(e.getMessage()));
+            }
+        }).start();
+        resultsElectionId = electionId;
+    }
+    
+    private void stopResultsStream() {
+        resultsElectionId = null;
+        if (resultsSubscription != null) {
+            resultsSubscription.cancel();
+            resultsSubscription = null;
+        }
+    }
+    
+    private void showTurnoutView() {
+        VBox content = new VBox(20);
+        
+        Label title = new Label("Voter Turnout");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        ComboBox<Election> electionSelect = createElectionSelect();
+        
+        ComboBox<Integer> bucketSelect = new ComboBox<>(FXCollections.observableArrayList(1, 5, 15, 60));
+        bucketSelect.setValue(15);
+        bucketSelect.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Integer minutes) {
+                return minutes == null ? "" : minutes == 60 ? "Per hour" : "Per " + minutes + " min";
+            }
+            
+            @Override
+            public Integer fromString(String text) {
+                return null;
+            }
+        });
+        
+        Button refreshBtn = new Button("Refresh");
+        HBox controls = new HBox(10, electionSelect, bucketSelect, refreshBtn);
+        controls.setAlignment(Pos.CENTER_LEFT);
+        
+        Label summaryLabel = new Label();
+        summaryLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
+        
+        ImageView chartView = new ImageView();
+        
+        Runnable load = () -> {
+            Election election = electionSelect.getValue();
+            if (election != null && bucketSelect.getValue() != null) {
+                loadTurnoutChart(election.getId(), bucketSelect.getValue(), chartView, summaryLabel);
+            }
+        };
+        electionSelect.setOnAction(e -> load.run());
+        bucketSelect.setOnAction(e -> load.run());
+        refreshBtn.setOnAction(e -> load.run());
+        
+        content.getChildren().addAll(title, controls, summaryLabel, chartView);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    /**
+     * Turnout curve: votes per bucket and the running total, from the in-memory series
+     */
+    @SuppressWarnings("unchecked")
+    private void loadTurnoutChart(Long electionId, int bucketMinutes, ImageView chartView, Label summaryLabel) {
+        new Thread(() -> {
+            try {
+                Map<String, Object> turnout = turnoutRegistry.getTurnout(electionId, bucketMinutes);
+                List<TurnoutSeries.Bucket> buckets = (List<TurnoutSeries.Bucket>) turnout.get("buckets");
+                
+                TimeSeries perBucket = new TimeSeries("Votes per bucket");
+                TimeSeries cumulative = new TimeSeries("Total votes");
+                TurnoutSeries.Bucket busiest = null;
+                for (TurnoutSeries.Bucket bucket : buckets) {
+                    LocalDateTime start = bucket.start();
+                    Minute minute = new Minute(start.getMinute(), start.getHour(), start.getDayOfMonth(),
+                            start.getMonthValue(), start.getYear());
+                    perBucket.addOrUpdate(minute, bucket.votes());
+                    cumulative.addOrUpdate(minute, bucket.cumulative());
+                    if (busiest == null || bucket.votes() > busiest.votes()) {
+                        busiest = bucket;
+                    }
+                }
+                TimeSeriesCollection dataset = new TimeSeriesCollection();
+                dataset.addSeries(cumulative);
+                dataset.addSeries(perBucket);
+                
+                JFreeChart chart = ChartFactory.createTimeSeriesChart(null, "Time", "Votes", dataset);
+                Image image = renderChart(chart, 900, 450);
+                
+                String summary = "Total votes: " + turnout.get("totalVotes")
+                        + (busiest != null && busiest.votes() > 0
+                            ? "  |  Busiest: " + busiest.start().format(RECONCILED_FORMAT) + " (" + busiest.votes() + " votes)"
+                            : "");
+                Platform.runLater(() -> {
+                    summaryLabel.setText(summary);
+                    chartView.setImage(image);
+                });
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> summaryLabel.setText(e.getMessage()));
+            }
+        }).start();
+    }
+    
+    private Image renderChart(JFreeChart chart, int width, int height) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ChartUtils.writeChartAsPNG(out, chart, width, height);
+            return new Image(new ByteArrayInputStream(out.toByteArray()));
+        } catch (IOException e) {
+            throw new RuntimeException("Error rendering chart", e);
+        }
+    }
+    
+    private void showLogsView() {
+        VBox content = new VBox(20);
+        
+        Label title = new Label("Security Audit Logs");
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        TableView<AuditLog> table = createLogsTable();
+        
+        content.getChildren().addAll(title, table);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+    
+    private TableView<AuditLog> createLogsTable() {
+        TableView<AuditLog> table = new TableView<>();
+        table.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-border-color: #D1D5DB; " +
+            "-fx-border-width: 1px; " +
+            "-fx-border-radius: 6px;"
+        );
+        
+        TableColumn<AuditLog, String> actionCol = new TableColumn<>("Action");
+        actionCol.setCellValueFactory(new PropertyValueFactory<>("action"));
+        actionCol.setMinWidth(200);
+        
+        TableColumn<AuditLog, String> typeCol = new TableColumn<>("Type");
+        typeCol.setCellValueFactory(new PropertyValueFactory<>("actionType"));
+        
+        TableColumn<AuditLog, String> severityCol = new TableColumn<>("Severity");
+        severityCol.setCellValueFactory(new PropertyValueFactory<>("severity"));
+        
+        TableColumn<AuditLog, String> ipCol = new TableColumn<>("IP Address");
+        ipCol.setCellValueFactory(new PropertyValueFactory<>("ipAddress"));
+        
+        table.getColumns().addAll(actionCol, typeCol, severityCol, ipCol);
+        
+        // Infinite scroll: fetch the next keyset page when the table reaches the bottom
+        LogScroller scroller = new LogScroller(table);
+        loadMoreAtBottom(table, scroller::loadMore);
+        scroller.loadMore();
+        
+        return table;
+    }
+    
+    /**
+     * Run loadMore whenever the table's vertical scroll bar reaches the end
+     */
+    private void loadMoreAtBottom(TableView<?> table, Runnable loadMore) {
+        table.skinProperty().addListener((obs, oldSkin, newSkin) -> Platform.runLater(() -> {
+            for (Node node : table.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                    bar.valueProperty().addListener((o, oldValue, value) -> {
+                        if (value.doubleValue() >= bar.getMax() - 0.05) {
+                            loadMore.run();
+                        }
+                    });
+                }
+            }
+        }));
+    }
+    
+    /**
+     * Keyset paging state for one logs table
+     */
+    private class LogScroller {
+        private final ObservableList<AuditLog> data = FXCollections.observableArrayList();
+        private String cursor;
+        private boolean hasMore = true;
+        private boolean loading;
+        
+        LogScroller(TableView<AuditLog> table) {
+            table.setItems(data);
+        }
+        
+        // Called on the FX thread only
+        void loadMore() {
+            if (loading || !hasMore) {
+                return;
+            }
+            loading = true;
+            String position = cursor;
+            
+            new Thread(() -> {
+                try {
+                    AuditLogSlice slice = auditLogService.getLogsAfter(AuditLogFilter.none(), position, LOG_PAGE_SIZE);
+                    Platform.runLater(() -> {
+                        data.addAll(slice.items());
+                        cursor = slice.nextCursor();
+                        hasMore = slice.hasMore();
+                        loading = false;
+                    });
+                } catch (RuntimeException e) {
+                    Platform.runLater(() -> loading = false);
+                }
+            }).start();
+        }
+    }
+    
+    private void showPlaceholder(String titleText, String description) {
+        VBox content = new VBox(20);
+        content.setAlignment(Pos.CENTER);
+        
+        Label title = new Label(titleText);
+        title.setStyle(
+            "-fx-font-size: 28px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #0A1F44;"
+        );
+        
+        Label desc = new Label(description);
+        desc.setStyle("-fx-font-size: 14px; -fx-text-fill: #6B7280;");
+        
+        content.getChildren().addAll(title, desc);
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(content);
+    }
+}
@@ -0,0 +1,121 @@
+package com.votingsystem.benchmark;
+
+import com.votingsystem.model.Candidate;
+import com.votingsystem.model.Election;
+import com.votingsystem.model.User;
+import com.votingsystem.model.Voter;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoterRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic active elections (one candidate each) and verified voters for the database
+ * benchmarks. remove() deletes exactly the rows create* inserted, plus their votes;
+ * audit entries are kept.
+ */
+final class BenchmarkFixtures {
+
+    private static final int CHUNK = 1000;
+
+    private final VoterRepository voterRepository;
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Keeps usernames and national ids unique across runs against the same database
+    private final String tag = Long.toString(System.currentTimeMillis() % 2_000_000_000L, 36);
+
+    final List<Election> elections = new ArrayList<>();
+    // candidates.get(i) belongs to elections.get(i)
+    final List<Candidate> candidates = new ArrayList<>();
+    final List<Voter> voters = new ArrayList<>();
+
+    BenchmarkFixtures(VoterRepository voterRepository, ElectionRepository electionRepository,
+                      CandidateRepository candidateRepository, JdbcTemplate jdbcTemplate) {
+        this.voterRepository = voterRepository;
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void createElections(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Election election = new Election();
+            election.setName("Benchmark " + tag + " #" + i);
+            election.setType(Election.ElectionType.PRESIDENTIAL);
+            election.setStartTime(now.minusHours(1));
+            election.setEndTime(now.plusDays(1));
+            election.setStatus(Election.ElectionStatus.ACTIVE);
+            election = electionRepository.save(election);
+            elections.add(election);
+
+            Candidate candidate = new Candidate();
+            candidate.setName("Candidate " + i);
+            candidate.setPartyName("Benchmark");
+            candidate.setElection(election);
+            candidates.add(candidateRepository.save(candidate));
+        }
+    }
+
+    void createVoters(int count) {
+        List<Voter> chunk = new ArrayList<>(CHUNK);
+        for (int i = 0; i < count; i++) {
+            Voter voter = new Voter();
+            voter.setUsername("bench_" + tag + "_" + i);
+            // Never used to log in
+            voter.setPassword("benchmark");
+            voter.setRole(User.UserRole.VOTER);
+            voter.setVoterId("B" + tag + i);
+            voter.setNationalId("N" + tag + i);
+            voter.setFullName("Benchmark Voter " + i);
+            voter.setDateOfBirth(LocalDate.of(1980, 1, 1));
+            voter.setGender("OTHER");
+            voter.setAddress("Benchmark");
+            voter.setVerified(true);
+            voter.setEligible(true);
+            voter.setStatus(Voter.VoterStatus.VERIFIED);
+            chunk.add(voter);
+            if (chunk.size() == CHUNK || i == count - 1) {
+                voters.addAll(voterRepository.saveAll(chunk));
+                chunk = new ArrayList<>(CHUNK);
+            }
+        }
+    }
+
+    void deleteVotes() {
+        jdbcTemplate.batchUpdate("DELETE FROM votes WHERE election_id = ?", electionIds());
+    }
+
+    long countVotes() {
+        long total = 0;
+        for (Election election : elections) {
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM votes WHERE election_id = ?", Long.class, election.getId());
+            total += count != null ? count : 0;
+        }
+        return total;
+    }
+
+    void remove() {
+        List<Object[]> electionIds = electionIds();
+        List<Object[]> voterIds = voters.stream().map(v -> new Object[] {v.getId()}).toList();
+
+        deleteVotes();
+        jdbcTemplate.batchUpdate("DELETE FROM election_result_snapshots WHERE election_id = ?", electionIds);
+        jdbcTemplate.batchUpdate("DELETE FROM candidates WHERE election_id = ?", electionIds);
+        jdbcTemplate.batchUpdate("DELETE FROM elections WHERE id = ?", electionIds);
+        jdbcTemplate.batchUpdate("DELETE FROM voters WHERE user_id = ?", voterIds);
+        jdbcTemplate.batchUpdate("DELETE FROM users WHERE id = ?", voterIds);
+    }
+
+    private List<Object[]> electionIds() {
+        return elections.stream().map(e -> new Object[] {e.getId()}).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.votingsystem.benchmark;
+
+import com.votingsystem.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the token work JwtAuthenticationFilter does per request:
+ * <ul>
+ *   <li>fourParses - the former filter: extractUsername, validateToken (username and
+ *       expiration) and extractRole, each a full signature check and parse. The signing
+ *       key is no longer rebuilt per call, so this understates the old cost.</li>
+ *   <li>singleParse - one verification, the cost of a verified-token cache miss</li>
+ *   <li>cachedVerify - JwtTokenUtil.verify for a token seen before, the usual request</li>
+ * </ul>
+ * Only runs with -Dbenchmark=true:
+ * <pre>mvn test -Dtest=JwtFilterBenchmarkTest -Dbenchmark=true</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256-signing";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtTokenUtil, "cacheMaxEntries", 10_000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "cacheMaxTtlSeconds", 300L);
+        jwtTokenUtil.init();
+        token = jwtTokenUtil.generateToken("benchmark", "VOTER");
+    }
+
+    @Benchmark
+    public void fourParses(Blackhole blackhole) {
+        String username = jwtTokenUtil.extractUsername(token);
+        blackhole.consume(username.equals(jwtTokenUtil.extractUsername(token)) && !jwtTokenUtil.isTokenExpired(token));
+        blackhole.consume(jwtTokenUtil.extractRole(token));
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return jwtTokenUtil.extractClaim(token, claims -> claims);
+    }
+
+    @Benchmark
+    public Object cachedVerify() {
+        return jwtTokenUtil.verify(token);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterBenchmarkTest.class.getName() + "\\.")
+                .build()).run();
+    }
+}
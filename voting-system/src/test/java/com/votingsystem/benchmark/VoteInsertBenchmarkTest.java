@@ -0,0 +1,150 @@
+package com.votingsystem.benchmark;
+
+import com.votingsystem.model.Vote;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import com.votingsystem.repository.VoterRepository;
+import com.votingsystem.service.IdBlockAllocator;
+import com.votingsystem.ui.VotingSystemApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vote insert throughput for synthetic votes (1M by default):
+ * <ul>
+ *   <li>before - one INSERT statement and round trip per row, which is what Hibernate
+ *       does for IDENTITY ids</li>
+ *   <li>after - VoteRepository.saveAll with pooled table ids, so Hibernate batches by
+ *       hibernate.jdbc.batch_size and the driver rewrites each batch into a multi-row INSERT</li>
+ * </ul>
+ * Both use the same chunked transactions. Needs the MySQL database from
+ * application.properties, so it only runs with -Dbenchmark=true:
+ * <pre>mvn test -Dtest=VoteInsertBenchmarkTest -Dbenchmark=true -Dbenchmark.votes=1000000</pre>
+ * Votes are spread over benchmark.voters voters and as many elections as needed.
+ */
+@SpringBootTest(classes = VotingSystemApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VoteInsertBenchmarkTest {
+
+    private static final int VOTES = Integer.getInteger("benchmark.votes", 1_000_000);
+    private static final int VOTERS = Integer.getInteger("benchmark.voters", 1000);
+    private static final int CHUNK = Integer.getInteger("benchmark.chunk", 1000);
+
+    private static final String INSERT_VOTE = "INSERT INTO votes (id, voter_id, election_id, candidate_id, " +
+            "voted_at, ip_address, user_agent, vote_hash, verified, session_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rowsPerSecond() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(voterRepository, electionRepository,
+                candidateRepository, jdbcTemplate);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            fixtures.createVoters(Math.min(VOTERS, VOTES));
+            fixtures.createElections((VOTES + fixtures.voters.size() - 1) / fixtures.voters.size());
+
+            long start = System.nanoTime();
+            for (int from = 0; from < VOTES; from += CHUNK) {
+                int to = Math.min(from + CHUNK, VOTES);
+                int first = from;
+                transaction.executeWithoutResult(status -> {
+                    for (int i = first; i < to; i++) {
+                        insertOne(fixtures, i);
+                    }
+                });
+            }
+            double before = rowsPerSecond(System.nanoTime() - start);
+            assertEquals(VOTES, fixtures.countVotes());
+            fixtures.deleteVotes();
+
+            start = System.nanoTime();
+            for (int from = 0; from < VOTES; from += CHUNK) {
+                int to = Math.min(from + CHUNK, VOTES);
+                int first = from;
+                transaction.executeWithoutResult(status -> {
+                    List<Vote> votes = new ArrayList<>(to - first);
+                    for (int i = first; i < to; i++) {
+                        votes.add(vote(fixtures, i));
+                    }
+                    voteRepository.saveAll(votes);
+                });
+            }
+            double after = rowsPerSecond(System.nanoTime() - start);
+            assertEquals(VOTES, fixtures.countVotes());
+
+            System.out.printf("Vote inserts, %d rows: before %.0f rows/s, after %.0f rows/s (%.1fx)%n",
+                    VOTES, before, after, after / before);
+        } finally {
+            fixtures.remove();
+        }
+    }
+
+    private void insertOne(BenchmarkFixtures fixtures, int i) {
+        int voter = i % fixtures.voters.size();
+        int election = i / fixtures.voters.size();
+        jdbcTemplate.update(INSERT_VOTE,
+                idBlockAllocator.next(IdBlockAllocator.VOTES),
+                fixtures.voters.get(voter).getId(),
+                fixtures.elections.get(election).getId(),
+                fixtures.candidates.get(election).getId(),
+                Timestamp.valueOf(LocalDateTime.now()),
+                "127.0.0.1", "benchmark", hash(i), true, "benchmark");
+    }
+
+    private Vote vote(BenchmarkFixtures fixtures, int i) {
+        int election = i / fixtures.voters.size();
+        Vote vote = new Vote();
+        vote.setVoter(voterRepository.getReferenceById(fixtures.voters.get(i % fixtures.voters.size()).getId()));
+        vote.setElection(electionRepository.getReferenceById(fixtures.elections.get(election).getId()));
+        vote.setCandidate(candidateRepository.getReferenceById(fixtures.candidates.get(election).getId()));
+        vote.setVotedAt(LocalDateTime.now());
+        vote.setIpAddress("127.0.0.1");
+        vote.setUserAgent("benchmark");
+        vote.setVoteHash(hash(i));
+        vote.setSessionId("benchmark");
+        return vote;
+    }
+
+    private static String hash(int i) {
+        return String.format("%064x", i);
+    }
+
+    private static double rowsPerSecond(long elapsedNanos) {
+        return VOTES / (elapsedNanos / 1_000_000_000.0);
+    }
+}
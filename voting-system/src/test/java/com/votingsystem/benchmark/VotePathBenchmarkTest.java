@@ -0,0 +1,181 @@
+package com.votingsystem.benchmark;
+
+import com.votingsystem.dto.VoteEligibility;
+import com.votingsystem.model.Candidate;
+import com.votingsystem.model.Election;
+import com.votingsystem.model.Voter;
+import com.votingsystem.repository.CandidateRepository;
+import com.votingsystem.repository.ElectionRepository;
+import com.votingsystem.repository.VoteRepository;
+import com.votingsystem.repository.VoterRepository;
+import com.votingsystem.service.ElectionMetadataCache;
+import com.votingsystem.service.VotingService;
+import com.votingsystem.ui.VotingSystemApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Queries per vote and latency of the castVote eligibility checks: the former four
+ * lookups (voter, election, prior vote, candidate) against the single eligibility
+ * query plus ElectionMetadataCache, and castVote end to end.
+ * <p>
+ * Needs the MySQL database from application.properties, so it only runs with
+ * -Dbenchmark=true:
+ * <pre>mvn test -Dtest=VotePathBenchmarkTest -Dbenchmark=true -Dbenchmark.votes=5000</pre>
+ * Statements are Hibernate's prepared-statement count; JDBC writes of the audit writer
+ * and the id allocator are not included.
+ */
+@SpringBootTest(classes = VotingSystemApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VotePathBenchmarkTest {
+
+    private static final int VOTES = Integer.getInteger("benchmark.votes", 2000);
+    private static final int WARMUP = Math.min(500, VOTES);
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private ElectionMetadataCache electionMetadataCache;
+
+    @Autowired
+    private VotingService votingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eligibilityQueriesAndLatencyPerVote() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(voterRepository, electionRepository,
+                candidateRepository, jdbcTemplate);
+        try {
+            fixtures.createElections(1);
+            fixtures.createVoters(VOTES);
+            Long electionId = fixtures.elections.get(0).getId();
+            Long candidateId = fixtures.candidates.get(0).getId();
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            Result legacy = measure("four lookups (before)", statistics, fixtures.voters, true,
+                    voter -> readOnly.executeWithoutResult(status ->
+                            assertTrue(legacyCheck(voter.getUsername(), electionId, candidateId))));
+            Result single = measure("eligibility query (after)", statistics, fixtures.voters, true,
+                    voter -> readOnly.executeWithoutResult(status ->
+                            assertTrue(currentCheck(voter.getUsername(), electionId, candidateId))));
+            // Each voter can vote once, so there is no warmup pass
+            Result castVote = measure("castVote end to end", statistics, fixtures.voters, false, voter -> {
+                Map<String, Object> response = votingService.castVote(voter.getUsername(), electionId,
+                        candidateId, "127.0.0.1", "benchmark", "benchmark");
+                assertEquals(Boolean.TRUE, response.get("success"), String.valueOf(response.get("message")));
+            });
+
+            System.out.println(legacy);
+            System.out.println(single);
+            System.out.println(castVote);
+            assertTrue(single.statementsPerVote() < legacy.statementsPerVote());
+        } finally {
+            fixtures.remove();
+        }
+    }
+
+    /**
+     * The checks castVote ran before the eligibility projection
+     */
+    private boolean legacyCheck(String username, Long electionId, Long candidateId) {
+        Voter voter = voterRepository.findByUsername(username).orElse(null);
+        if (voter == null || !voter.getVerified() || !voter.getEligible()) {
+            return false;
+        }
+        Election election = electionRepository.findById(electionId).orElse(null);
+        if (election == null || !election.isActive()) {
+            return false;
+        }
+        if (voteRepository.existsByVoterIdAndElectionId(voter.getId(), electionId)) {
+            return false;
+        }
+        Candidate candidate = candidateRepository.findById(candidateId).orElse(null);
+        return candidate != null && candidate.getActive() && candidate.getElection().getId().equals(electionId);
+    }
+
+    /**
+     * The checks castVote runs now
+     */
+    private boolean currentCheck(String username, Long electionId, Long candidateId) {
+        VoteEligibility eligibility = voterRepository.findVoteEligibility(username, electionId).orElse(null);
+        if (eligibility == null || !eligibility.isVoterEligible() || eligibility.hasVoted()) {
+            return false;
+        }
+        Election election = electionMetadataCache.getElection(electionId).orElse(null);
+        if (election == null || !election.isActive()) {
+            return false;
+        }
+        Candidate candidate = electionMetadataCache.getCandidate(candidateId).orElse(null);
+        return candidate != null && candidate.getActive() && candidate.getElection().getId().equals(electionId);
+    }
+
+    private static Result measure(String name, Statistics statistics, List<Voter> voters, boolean warmUp,
+                                  Consumer<Voter> action) {
+        if (warmUp) {
+            voters.subList(0, WARMUP).forEach(action);
+        }
+        long[] nanos = new long[voters.size()];
+        statistics.clear();
+        for (int i = 0; i < voters.size(); i++) {
+            long start = System.nanoTime();
+            action.accept(voters.get(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        long statements = statistics.getPrepareStatementCount();
+        Arrays.sort(nanos);
+        return new Result(name, voters.size(), (double) statements / voters.size(),
+                percentile(nanos, 0.50), percentile(nanos, 0.99));
+    }
+
+    private static double percentile(long[] sortedNanos, double fraction) {
+        return sortedNanos[(int) Math.ceil(fraction * sortedNanos.length) - 1] / 1_000_000.0;
+    }
+
+    private record Result(String name, int votes, double statementsPerVote, double p50Ms, double p99Ms) {
+
+        @Override
+        public String toString() {
+            return String.format("%-28s votes=%d statements/vote=%.2f p50=%.3fms p99=%.3fms",
+                    name, votes, statementsPerVote, p50Ms, p99Ms);
+        }
+    }
+}